@@ -103,10 +103,16 @@ public enum OptionsUtil {
 
     MONEY_FORMAT("money format", "##.####", Optional.empty()),
 
+    PLACEHOLDERAPI_CACHE_TTL("placeholderapi.cache ttl", 50, Optional.empty()),
+
     HOLOGRAM("hologram.plugin", "voidchest:none", Optional.empty()),
 
     HOLOGRAM_UPDATE_INTERVAL("hologram.update interval", 1, Optional.empty()),
 
+    HOLOGRAM_UPDATE_BUDGET("hologram.update budget", 2, Optional.empty()),
+
+    HOLOGRAM_VIEW_DISTANCE("hologram.view distance", 3, Optional.empty()),
+
     CHUNK_SEE_Y_CENTRAL("chunk see.Y central", 0, Optional.empty()),
 
     CHUNK_SEE_Y_UP("chunk see.Y up", 0, Optional.empty()),
@@ -117,6 +123,20 @@ public enum OptionsUtil {
 
     CHUNK_SEE_EFFECT_INTERVAL("chunk see.effect.interval", 20, Optional.empty()),
 
+    SELL_REGION_SHIFT("sell.region shift", 3, Optional.empty()),
+
+    SELL_REGION_BUDGET("sell.region budget", 2, Optional.empty()),
+
+    SELL_ADAPTIVE("sell.adaptive.enabled", true, Optional.empty()),
+
+    SELL_ADAPTIVE_MAX_BACKOFF("sell.adaptive.max backoff", 8, Optional.empty()),
+
+    SELL_ADAPTIVE_MIN_INTERVAL("sell.adaptive.min interval", 1, Optional.empty()),
+
+    SELL_ADAPTIVE_MSPT_THRESHOLD("sell.adaptive.mspt threshold", 45.0D, Optional.empty()),
+
+    SELL_ADAPTIVE_MAX_LOAD_FACTOR("sell.adaptive.max load factor", 4, Optional.empty()),
+
     SELL_MESSAGE("sell message.enabled", false, Optional.empty()),
 
     SELL_MESSAGE_INTERVAL("sell message.interval", 60, Optional.empty()),
@@ -1,6 +1,7 @@
 package com.georgev22.voidchest.api.integrations.hologram;
 
-import org.bukkit.Bukkit;
+import com.georgev22.voidchest.api.VoidChestAPI;
+import com.georgev22.voidchest.api.scheduler.MinecraftScheduler;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
@@ -9,10 +10,18 @@ import org.jetbrains.annotations.Unmodifiable;
 import org.jspecify.annotations.NonNull;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Platform-independent hologram wrapper used by VoidChest.
@@ -32,7 +41,15 @@ import java.util.function.Consumer;
  */
 public abstract class AbstractHologram<H> {
 
+    private static final Logger LOGGER = Logger.getLogger(AbstractHologram.class.getName());
+    private static final ThreadPoolExecutor PREPARE_EXECUTOR = createPrepareExecutor();
+
     private final AtomicLong updateCounter = new AtomicLong();
+    private final AtomicReference<Consumer<List<String>>> pendingBuilder = new AtomicReference<>();
+    private final AtomicReference<List<String>> preparedLines = new AtomicReference<>();
+    private final AtomicBoolean buildScheduled = new AtomicBoolean();
+    private final AtomicBoolean applyScheduled = new AtomicBoolean();
+    private final AtomicBoolean retryScheduled = new AtomicBoolean();
     protected final H hologram;
     protected final List<String> lines = new CopyOnWriteArrayList<>();
     protected final Set<Player> viewers = Collections.synchronizedSet(new HashSet<>());
@@ -130,30 +147,111 @@ public abstract class AbstractHologram<H> {
     }
 
     /**
-     * Prepares hologram lines asynchronously and safely applies them on the main thread.
+     * Prepares hologram lines asynchronously and safely applies them on the thread owning the hologram location.
      * <p>
      * Intended for heavy placeholder parsing, database formatting, localization, etc.
+     * <p>
+     * Builders run on a small bounded executor shared by all holograms, never on the common pool.
+     * Calls that arrive while a build is queued or running replace the pending builder, so superseded
+     * builders are never started and at most one build per hologram is in flight. Results that land
+     * before the previous result was applied are coalesced into a single apply.
      *
-     * @param plugin  plugin instance used for scheduling
      * @param builder async hologram line builder
      */
+    public final void prepareAsync(@NonNull Consumer<List<String>> builder) {
+        updateCounter.incrementAndGet();
+        pendingBuilder.set(builder);
+        scheduleBuild();
+    }
+
+    /**
+     * Prepares hologram lines asynchronously and safely applies them.
+     *
+     * @param plugin  unused, the lines are applied through the {@link com.georgev22.voidchest.api.scheduler.MinecraftScheduler}
+     * @param builder async hologram line builder
+     * @deprecated use {@link #prepareAsync(Consumer)}
+     */
+    @Deprecated
     public final void prepareAsync(Plugin plugin, Consumer<List<String>> builder) {
-        long gen = updateCounter.incrementAndGet();
+        prepareAsync(builder);
+    }
 
-        CompletableFuture
-                .supplyAsync(() -> {
-                    List<String> prepared = new ArrayList<>();
-                    builder.accept(prepared);
-                    return prepared;
-                })
-                .thenAccept(prepared ->
-                        Bukkit.getScheduler().runTask(plugin, () -> {
-                            if (gen == updateCounter.get() && !deleted) {
-                                setLines(prepared);
-                                update();
-                            }
-                        })
-                );
+    private void scheduleBuild() {
+        if (!buildScheduled.compareAndSet(false, true)) return;
+        try {
+            PREPARE_EXECUTOR.execute(this::runBuild);
+        } catch (RejectedExecutionException e) {
+            buildScheduled.set(false);
+            retryBuild();
+        }
+    }
+
+    /**
+     * Tries the build again on the next tick when the executor is saturated, so the pending builder
+     * does not wait for another prepareAsync call that may never come.
+     */
+    private void retryBuild() {
+        if (deleted || !retryScheduled.compareAndSet(false, true)) return;
+        VoidChestAPI.getInstance().minecraftScheduler().createAsyncDelayedTask(() -> {
+            retryScheduled.set(false);
+            if (!deleted && pendingBuilder.get() != null) {
+                scheduleBuild();
+            }
+        }, 1L);
+    }
+
+    private void runBuild() {
+        try {
+            Consumer<List<String>> builder;
+            while (!deleted && (builder = pendingBuilder.getAndSet(null)) != null) {
+                long gen = updateCounter.get();
+                List<String> prepared = new ArrayList<>();
+                builder.accept(prepared);
+                if (gen == updateCounter.get()) {
+                    preparedLines.set(prepared);
+                    scheduleApply();
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Failed to prepare hologram lines", e);
+        } finally {
+            buildScheduled.set(false);
+            if (pendingBuilder.get() != null && !deleted) {
+                scheduleBuild();
+            }
+        }
+    }
+
+    private void scheduleApply() {
+        if (!applyScheduled.compareAndSet(false, true)) return;
+        Runnable apply = () -> {
+            applyScheduled.set(false);
+            List<String> prepared = preparedLines.getAndSet(null);
+            if (prepared != null && !deleted) {
+                setLines(prepared);
+                update();
+            }
+        };
+        Location target = location;
+        MinecraftScheduler scheduler = VoidChestAPI.getInstance().minecraftScheduler();
+        if (target != null && target.getWorld() != null) {
+            scheduler.createTaskForLocation(apply, target);
+        } else {
+            scheduler.runTask(apply);
+        }
+    }
+
+    private static @NonNull ThreadPoolExecutor createPrepareExecutor() {
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 4));
+        AtomicInteger threadIds = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(4096), runnable -> {
+            Thread thread = new Thread(runnable, "VoidChest-Hologram-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     /**
@@ -194,6 +292,44 @@ public abstract class AbstractHologram<H> {
         }
     }
 
+    /**
+     * Shows this hologram to several players at once.
+     * <p>
+     * Players that already see the hologram are skipped; the rest are passed to {@link #onShow(Collection)} together.
+     *
+     * @param players target players
+     */
+    public final void show(@NonNull Collection<? extends Player> players) {
+        List<Player> added = new ArrayList<>(players.size());
+        for (Player player : players) {
+            if (viewers.add(player)) {
+                added.add(player);
+            }
+        }
+        if (!added.isEmpty()) {
+            onShow(added);
+        }
+    }
+
+    /**
+     * Hides this hologram from several players at once.
+     * <p>
+     * Players that do not see the hologram are skipped; the rest are passed to {@link #onHide(Collection)} together.
+     *
+     * @param players target players
+     */
+    public final void hide(@NonNull Collection<? extends Player> players) {
+        List<Player> removed = new ArrayList<>(players.size());
+        for (Player player : players) {
+            if (viewers.remove(player)) {
+                removed.add(player);
+            }
+        }
+        if (!removed.isEmpty()) {
+            onHide(removed);
+        }
+    }
+
     /**
      * @param player player to check
      * @return {@code true} if the player is currently viewing this hologram
@@ -240,6 +376,30 @@ public abstract class AbstractHologram<H> {
      */
     protected abstract void onHide(Player player);
 
+    /**
+     * Called when several players should start seeing the hologram.
+     * <p>
+     * Engines that can send one update to many players should override this; by default
+     * {@link #onShow(Player)} is called for each player.
+     *
+     * @param players target players
+     */
+    protected void onShow(@NonNull Collection<Player> players) {
+        players.forEach(this::onShow);
+    }
+
+    /**
+     * Called when several players should stop seeing the hologram.
+     * <p>
+     * Engines that can send one update to many players should override this; by default
+     * {@link #onHide(Player)} is called for each player.
+     *
+     * @param players target players
+     */
+    protected void onHide(@NonNull Collection<Player> players) {
+        players.forEach(this::onHide);
+    }
+
     /**
      * Called once when the hologram is deleted.
      */
@@ -0,0 +1,72 @@
+package com.georgev22.voidchest.api.integrations.hologram;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The void chest state a hologram line can depend on, identified by the placeholders that display it.
+ * <p>
+ * Placeholders that are not known here, such as PlaceholderAPI placeholders, map to {@link #DYNAMIC},
+ * which means the line may change at any time.
+ */
+public enum HologramField {
+
+    MONEY("money"),
+    ITEMS_SOLD("items_sold"),
+    ITEMS_PURGED("items_purged"),
+    CHARGE("timeleft", "charge", "charge_hologram"),
+    OWNER("owner"),
+    BOOSTER("booster"),
+    /**
+     * The void chest type and name, which only change on reload.
+     */
+    TYPE("voidchest"),
+    DYNAMIC;
+
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("%([^%\\s]+)%");
+
+    private final String[] placeholders;
+
+    HologramField(String... placeholders) {
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Finds the fields the given hologram text depends on.
+     *
+     * @param lines The hologram text, usually {@code OPTIONS_HOLOGRAM_TEXT} of a void chest type.
+     * @return The referenced fields. Empty if the text has no placeholders.
+     */
+    public static @NonNull Set<HologramField> referencedBy(@NonNull List<String> lines) {
+        Set<HologramField> fields = EnumSet.noneOf(HologramField.class);
+        for (String line : lines) {
+            Matcher matcher = PLACEHOLDER_PATTERN.matcher(line);
+            while (matcher.find()) {
+                fields.add(fromPlaceholder(matcher.group(1)));
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Finds the field displayed by the given placeholder.
+     *
+     * @param placeholder The placeholder name, without the surrounding percent signs.
+     * @return The field, or {@link #DYNAMIC} if the placeholder is unknown.
+     */
+    public static @NonNull HologramField fromPlaceholder(@NonNull String placeholder) {
+        String name = placeholder.toLowerCase(Locale.ROOT);
+        for (HologramField field : values()) {
+            for (String known : field.placeholders) {
+                if (known.equals(name)) return field;
+            }
+        }
+        return DYNAMIC;
+    }
+}
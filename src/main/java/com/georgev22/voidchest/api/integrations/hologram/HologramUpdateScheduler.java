@@ -0,0 +1,296 @@
+package com.georgev22.voidchest.api.integrations.hologram;
+
+import com.georgev22.voidchest.api.config.OptionsUtil;
+import com.georgev22.voidchest.api.config.VoidChestOptionsUtil;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.scheduler.MinecraftScheduler;
+import com.georgev22.voidchest.api.scheduler.SchedulerTask;
+import com.georgev22.voidchest.api.storage.model.AbstractVoidChest;
+import com.georgev22.voidchest.api.utilities.SerializableLocation;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Re-renders void chest holograms only when something they display has changed.
+ * <p>
+ * The {@link HologramField}s a hologram depends on are derived once per void chest type from
+ * {@link VoidChestOptionsUtil#OPTIONS_HOLOGRAM_TEXT}. Every {@link OptionsUtil#HOLOGRAM_UPDATE_INTERVAL} seconds,
+ * the values of those fields are compared with the ones last rendered, and only holograms with changed values,
+ * or with {@link HologramField#DYNAMIC} placeholders, are marked dirty. Callers can also mark holograms dirty
+ * right away through {@link #markDirty(AbstractVoidChest, HologramField)}.
+ * <p>
+ * Dirty holograms are re-rendered through {@link VoidHologram#update(AbstractVoidChest)} once per tick,
+ * closest to an online player first, until {@link OptionsUtil#HOLOGRAM_UPDATE_BUDGET} is spent.
+ * The rest stays dirty for the next tick.
+ */
+public class HologramUpdateScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(HologramUpdateScheduler.class.getName());
+
+    private final ObjectMap<UUID, Entry> entries = ObjectMaps.newConcurrentHashObjectMap();
+    private final ObjectMap<String, Set<HologramField>> typeFields = ObjectMaps.newConcurrentHashObjectMap();
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final PriorityQueue<Entry> dirty = new PriorityQueue<>(Comparator.comparingDouble(entry -> entry.priority));
+    private final MinecraftScheduler minecraftScheduler;
+    private final VoidHologram voidHologram;
+    private ObjectMap<String, double[]> playerPositions = ObjectMaps.newHashObjectMap();
+    private @Nullable SchedulerTask tickTask;
+    private int ticksUntilPoll;
+
+    /**
+     * Creates a new hologram update scheduler.
+     *
+     * @param minecraftScheduler The scheduler used to run the update tick.
+     * @param voidHologram       The hologram implementation that renders the holograms.
+     */
+    public HologramUpdateScheduler(@NonNull MinecraftScheduler minecraftScheduler, @NonNull VoidHologram voidHologram) {
+        this.minecraftScheduler = minecraftScheduler;
+        this.voidHologram = voidHologram;
+    }
+
+    /**
+     * Starts the update tick. Does nothing if it is already running.
+     */
+    public synchronized void start() {
+        if (tickTask != null) return;
+        tickTask = minecraftScheduler.createRepeatingTask(this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops the update tick. Dirty holograms stay dirty until the scheduler is started again.
+     */
+    public synchronized void stop() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+    }
+
+    /**
+     * Starts tracking the hologram of the given void chest. It is rendered on the next tick.
+     *
+     * @param voidChest The void chest.
+     */
+    public void track(@NonNull AbstractVoidChest voidChest) {
+        Entry entry = new Entry(voidChest);
+        Entry previous = entries.put(voidChest.getUniqueId(), entry);
+        if (previous != null) {
+            previous.closed = true;
+        }
+        enqueue(entry);
+    }
+
+    /**
+     * Stops tracking the hologram of the void chest with the given id.
+     *
+     * @param voidChestId The void chest UUID.
+     */
+    public void untrack(@NonNull UUID voidChestId) {
+        Entry entry = entries.remove(voidChestId);
+        if (entry != null) {
+            entry.closed = true;
+        }
+    }
+
+    /**
+     * Marks the hologram of the given void chest dirty if it displays the given field.
+     *
+     * @param voidChest The void chest.
+     * @param field     The field that changed.
+     */
+    public void markDirty(@NonNull AbstractVoidChest voidChest, @NonNull HologramField field) {
+        Entry entry = entries.get(voidChest.getUniqueId());
+        if (entry != null && (entry.fields.contains(field) || entry.fields.contains(HologramField.DYNAMIC))) {
+            enqueue(entry);
+        }
+    }
+
+    /**
+     * Marks the hologram of the given void chest dirty, regardless of what it displays.
+     *
+     * @param voidChest The void chest.
+     */
+    public void markDirty(@NonNull AbstractVoidChest voidChest) {
+        Entry entry = entries.get(voidChest.getUniqueId());
+        if (entry != null) {
+            enqueue(entry);
+        }
+    }
+
+    /**
+     * Forgets the fields derived from the hologram text of every type and re-renders every hologram.
+     * Call after the void chest type configurations were reloaded.
+     */
+    public void reload() {
+        typeFields.clear();
+        for (Entry entry : entries.values()) {
+            entry.closed = true;
+            Entry replacement = new Entry(entry.voidChest);
+            entries.replace(entry.voidChest.getUniqueId(), entry, replacement);
+            enqueue(replacement);
+        }
+    }
+
+    /**
+     * Retrieves the number of holograms waiting to be re-rendered.
+     *
+     * @return The number of dirty holograms.
+     */
+    public int dirtyCount() {
+        synchronized (dirty) {
+            return dirty.size() + pending.size();
+        }
+    }
+
+    /**
+     * Runs one update tick: polls for changes when the update interval elapsed and re-renders
+     * dirty holograms within the budget. Called by the repeating task started with {@link #start()}.
+     */
+    public void tick() {
+        if (--ticksUntilPoll <= 0) {
+            ticksUntilPoll = Math.max(1, OptionsUtil.HOLOGRAM_UPDATE_INTERVAL.getIntValue()) * 20;
+            capturePlayerPositions();
+            poll();
+        }
+
+        synchronized (dirty) {
+            Entry entry;
+            while ((entry = pending.poll()) != null) {
+                entry.priority = priority(entry.voidChest.blockLocation());
+                dirty.add(entry);
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(1, OptionsUtil.HOLOGRAM_UPDATE_BUDGET.getIntValue()));
+            while ((entry = dirty.poll()) != null) {
+                entry.queued.set(false);
+                if (!entry.closed) {
+                    render(entry);
+                }
+                if (System.nanoTime() >= deadline) break;
+            }
+        }
+    }
+
+    private void poll() {
+        for (Entry entry : entries.values()) {
+            if (entry.fields.contains(HologramField.DYNAMIC)) {
+                enqueue(entry);
+                continue;
+            }
+            Object[] signature = entry.signature();
+            if (!Arrays.equals(signature, entry.rendered)) {
+                enqueue(entry);
+            }
+        }
+    }
+
+    private void render(@NonNull Entry entry) {
+        try {
+            entry.rendered = entry.signature();
+            voidHologram.update(entry.voidChest);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Failed to update the hologram of void chest " + entry.voidChest.getUniqueId(), e);
+        }
+    }
+
+    private void enqueue(@NonNull Entry entry) {
+        if (entry.queued.compareAndSet(false, true)) {
+            pending.add(entry);
+        }
+    }
+
+    private void capturePlayerPositions() {
+        ObjectMap<String, List<Double>> positions = ObjectMaps.newHashObjectMap();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            Location location = player.getLocation();
+            List<Double> coordinates = positions.computeIfAbsent(location.getWorld().getName(), k -> new ArrayList<>());
+            coordinates.add(location.getX());
+            coordinates.add(location.getZ());
+        }
+        ObjectMap<String, double[]> snapshot = ObjectMaps.newHashObjectMap();
+        positions.forEach((world, coordinates) -> {
+            double[] array = new double[coordinates.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = coordinates.get(i);
+            }
+            snapshot.put(world, array);
+        });
+        playerPositions = snapshot;
+    }
+
+    /**
+     * The squared horizontal distance to the closest player in the same world, or infinity if there is none.
+     */
+    private double priority(@NonNull SerializableLocation location) {
+        double[] coordinates = playerPositions.get(location.getWorldName());
+        if (coordinates == null) return Double.POSITIVE_INFINITY;
+        double closest = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < coordinates.length; i += 2) {
+            double dx = coordinates[i] - location.getX();
+            double dz = coordinates[i + 1] - location.getZ();
+            closest = Math.min(closest, dx * dx + dz * dz);
+        }
+        return closest;
+    }
+
+    private @NonNull Set<HologramField> fields(@NonNull AbstractVoidChest voidChest) {
+        String type = voidChest.type();
+        if (type == null) {
+            return HologramField.referencedBy(VoidChestOptionsUtil.OPTIONS_HOLOGRAM_TEXT.get(voidChest));
+        }
+        return typeFields.computeIfAbsent(type, k -> HologramField.referencedBy(VoidChestOptionsUtil.OPTIONS_HOLOGRAM_TEXT.get(voidChest)));
+    }
+
+    private final class Entry {
+
+        private final AbstractVoidChest voidChest;
+        private final Set<HologramField> fields;
+        private final AtomicBoolean queued = new AtomicBoolean();
+        private volatile boolean closed;
+        private volatile Object @Nullable [] rendered;
+        private double priority;
+
+        private Entry(@NonNull AbstractVoidChest voidChest) {
+            this.voidChest = voidChest;
+            this.fields = fields(voidChest);
+        }
+
+        /**
+         * The current values of the fields this hologram displays.
+         */
+        private Object @NonNull [] signature() {
+            Object[] signature = new Object[HologramField.values().length];
+            for (HologramField field : fields) {
+                signature[field.ordinal()] = switch (field) {
+                    case MONEY -> voidChest.stats().money();
+                    case ITEMS_SOLD -> voidChest.stats().itemsSold();
+                    case ITEMS_PURGED -> voidChest.stats().itemsPurged();
+                    case CHARGE -> voidChest.charge().hasFuel() ? voidChest.charge().getChargeLeftSeconds() : null;
+                    case OWNER -> voidChest.ownerName();
+                    case BOOSTER -> voidChest.totalBooster();
+                    case TYPE -> voidChest.name();
+                    case DYNAMIC -> null;
+                };
+            }
+            return signature;
+        }
+    }
+}
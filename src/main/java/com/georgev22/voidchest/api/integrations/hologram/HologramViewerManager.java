@@ -0,0 +1,257 @@
+package com.georgev22.voidchest.api.integrations.hologram;
+
+import com.georgev22.voidchest.api.config.OptionsUtil;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.integrations.hologram.VoidHologram.HologramVisibility;
+import com.georgev22.voidchest.api.registry.Registries;
+import com.georgev22.voidchest.api.utilities.VoidChunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Shows and hides holograms based on the chunks around each player, for {@link HologramVisibility#AUTO}.
+ * <p>
+ * Holograms are indexed by the chunk they are in. Visibility is only recomputed when a player enters another chunk,
+ * teleports, respawns, changes world or joins: the holograms in the chunks within {@link OptionsUtil#HOLOGRAM_VIEW_DISTANCE} are compared
+ * with the ones the player saw before, and only the difference is shown or hidden. A newly registered hologram is
+ * shown to all players in range with a single {@link AbstractHologram#show(java.util.Collection)} call.
+ * The work therefore grows with player movement, not with the number of holograms times the number of players.
+ * <p>
+ * The manager must be registered as a listener. Holograms must be registered with {@link #register(AbstractHologram)},
+ * moved with {@link #move(AbstractHologram, Location)} and removed with {@link #unregister(AbstractHologram)}.
+ * <p>
+ * While the visibility is {@link HologramVisibility#MANUAL}, holograms are still indexed, but the manager
+ * neither shows nor hides them.
+ */
+public class HologramViewerManager implements Listener {
+
+    private final ObjectMap<VoidChunk, Set<AbstractHologram<?>>> chunkIndex = ObjectMaps.newConcurrentHashObjectMap();
+    private final ObjectMap<UUID, ViewerState> viewerStates = ObjectMaps.newConcurrentHashObjectMap();
+    private final Supplier<HologramVisibility> visibility;
+
+    /**
+     * Creates a manager that follows the visibility of the selected {@link VoidHologram},
+     * or {@link HologramVisibility#AUTO} if none is selected.
+     */
+    public HologramViewerManager() {
+        this(() -> Registries.HOLOGRAM.getSelected().map(VoidHologram::getVisibility).orElse(HologramVisibility.AUTO));
+    }
+
+    /**
+     * Creates a manager that follows the given visibility.
+     *
+     * @param visibility Supplies the current hologram visibility.
+     */
+    public HologramViewerManager(@NonNull Supplier<HologramVisibility> visibility) {
+        this.visibility = visibility;
+    }
+
+    /**
+     * Indexes the given hologram at its location and shows it to the players in range.
+     *
+     * @param hologram The hologram.
+     */
+    public void register(@NonNull AbstractHologram<?> hologram) {
+        Location location = hologram.getLocation();
+        if (location == null || location.getWorld() == null) return;
+        VoidChunk chunk = chunkOf(location);
+        chunkIndex.computeIfAbsent(chunk, k -> ConcurrentHashMap.newKeySet()).add(hologram);
+        if (isAutomatic()) {
+            showToPlayersInRange(hologram, chunk, location.getWorld());
+        }
+    }
+
+    /**
+     * Removes the given hologram from the index and hides it from its viewers.
+     *
+     * @param hologram The hologram.
+     */
+    public void unregister(@NonNull AbstractHologram<?> hologram) {
+        Location location = hologram.getLocation();
+        if (location != null && location.getWorld() != null) {
+            removeFromIndex(hologram, chunkOf(location));
+        }
+        for (ViewerState state : viewerStates.values()) {
+            state.visible.remove(hologram);
+        }
+        if (!hologram.isDeleted() && isAutomatic()) {
+            hologram.hide(hologram.getViewers());
+        }
+    }
+
+    /**
+     * Re-indexes a hologram after {@link AbstractHologram#setLocation(Location)}.
+     *
+     * @param hologram    The hologram, already at its new location.
+     * @param oldLocation The location it was at before.
+     */
+    public void move(@NonNull AbstractHologram<?> hologram, @NonNull Location oldLocation) {
+        Location location = hologram.getLocation();
+        if (oldLocation.getWorld() != null) {
+            VoidChunk oldChunk = chunkOf(oldLocation);
+            if (location != null && oldChunk.equals(chunkOf(location))) return;
+            removeFromIndex(hologram, oldChunk);
+        }
+        if (!isAutomatic()) {
+            register(hologram);
+            return;
+        }
+        List<Player> outOfRange = new ArrayList<>();
+        for (Player viewer : hologram.getViewers()) {
+            ViewerState state = viewerStates.get(viewer.getUniqueId());
+            if (state == null || location == null || !inRange(state.chunk, chunkOf(location))) {
+                outOfRange.add(viewer);
+                if (state != null) state.visible.remove(hologram);
+            }
+        }
+        hologram.hide(outOfRange);
+        register(hologram);
+    }
+
+    /**
+     * Recomputes which holograms the given player sees.
+     *
+     * @param player   The player.
+     * @param location The location of the player.
+     */
+    public void refresh(@NonNull Player player, @NonNull Location location) {
+        if (location.getWorld() == null) return;
+        VoidChunk center = chunkOf(location);
+        ViewerState state = viewerStates.computeIfAbsent(player.getUniqueId(), k -> new ViewerState());
+        if (!isAutomatic()) {
+            state.chunk = center;
+            state.visible = ConcurrentHashMap.newKeySet();
+            return;
+        }
+
+        Set<AbstractHologram<?>> nowVisible = ConcurrentHashMap.newKeySet();
+        int radius = viewDistance();
+        String worldName = center.getWorldName();
+        for (int x = center.getX() - radius; x <= center.getX() + radius; x++) {
+            for (int z = center.getZ() - radius; z <= center.getZ() + radius; z++) {
+                Set<AbstractHologram<?>> holograms = chunkIndex.get(new VoidChunk(worldName, x, z));
+                if (holograms == null) continue;
+                for (AbstractHologram<?> hologram : holograms) {
+                    if (!hologram.isDeleted()) nowVisible.add(hologram);
+                }
+            }
+        }
+
+        List<Player> viewer = List.of(player);
+        for (AbstractHologram<?> hologram : state.visible) {
+            if (!nowVisible.contains(hologram)) hologram.hide(viewer);
+        }
+        for (AbstractHologram<?> hologram : nowVisible) {
+            if (!state.visible.contains(hologram)) hologram.show(viewer);
+        }
+        state.chunk = center;
+        state.visible = nowVisible;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(@NonNull PlayerMoveEvent event) {
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if ((from.getBlockX() >> 4) == (to.getBlockX() >> 4)
+                && (from.getBlockZ() >> 4) == (to.getBlockZ() >> 4)
+                && from.getWorld() == to.getWorld()) {
+            return;
+        }
+        refresh(event.getPlayer(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(@NonNull PlayerTeleportEvent event) {
+        refresh(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(@NonNull PlayerRespawnEvent event) {
+        refresh(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(@NonNull PlayerJoinEvent event) {
+        refresh(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(@NonNull PlayerChangedWorldEvent event) {
+        refresh(event.getPlayer(), event.getPlayer().getLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(@NonNull PlayerQuitEvent event) {
+        ViewerState state = viewerStates.remove(event.getPlayer().getUniqueId());
+        if (state == null || !isAutomatic()) return;
+        List<Player> viewer = List.of(event.getPlayer());
+        for (AbstractHologram<?> hologram : state.visible) {
+            hologram.hide(viewer);
+        }
+    }
+
+    private void showToPlayersInRange(@NonNull AbstractHologram<?> hologram, @NonNull VoidChunk chunk, @NonNull World world) {
+        List<Player> inRange = new ArrayList<>();
+        for (Player player : world.getPlayers()) {
+            ViewerState state = viewerStates.get(player.getUniqueId());
+            if (state != null && state.chunk != null && inRange(state.chunk, chunk)) {
+                state.visible.add(hologram);
+                inRange.add(player);
+            }
+        }
+        hologram.show(inRange);
+    }
+
+    private void removeFromIndex(@NonNull AbstractHologram<?> hologram, @NonNull VoidChunk chunk) {
+        chunkIndex.computeIfPresent(chunk, (k, holograms) -> {
+            holograms.remove(hologram);
+            return holograms.isEmpty() ? null : holograms;
+        });
+    }
+
+    private boolean inRange(@Nullable VoidChunk viewer, @NonNull VoidChunk hologram) {
+        if (viewer == null || !viewer.getWorldName().equals(hologram.getWorldName())) return false;
+        int radius = viewDistance();
+        return Math.abs(viewer.getX() - hologram.getX()) <= radius && Math.abs(viewer.getZ() - hologram.getZ()) <= radius;
+    }
+
+    private boolean isAutomatic() {
+        return visibility.get() == HologramVisibility.AUTO;
+    }
+
+    private static int viewDistance() {
+        return Math.max(0, OptionsUtil.HOLOGRAM_VIEW_DISTANCE.getIntValue());
+    }
+
+    private static @NonNull VoidChunk chunkOf(@NonNull Location location) {
+        return new VoidChunk(location.getWorld().getName(), location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    /**
+     * The chunk a player was last seen in and the holograms shown to the player.
+     */
+    private static final class ViewerState {
+        private volatile @Nullable VoidChunk chunk;
+        private volatile Set<AbstractHologram<?>> visible = ConcurrentHashMap.newKeySet();
+    }
+}
@@ -0,0 +1,16 @@
+package com.georgev22.voidchest.api.integrations.stacker;
+
+import org.bukkit.entity.Item;
+import org.bukkit.inventory.ItemStack;
+
+import java.math.BigInteger;
+
+/**
+ * A dropped item entity resolved by a {@link Stacker}.
+ *
+ * @param item      the dropped item entity
+ * @param itemStack the stack the entity represents, as returned by {@link Stacker#getItemStack(Item)}
+ * @param amount    the actual stacked amount, as returned by {@link Stacker#getActualAmount(Item)}
+ */
+public record StackedItem(Item item, ItemStack itemStack, BigInteger amount) {
+}
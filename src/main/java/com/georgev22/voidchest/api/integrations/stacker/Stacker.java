@@ -6,6 +6,11 @@ import org.bukkit.inventory.ItemStack;
 import org.jspecify.annotations.NonNull;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * The Stacker interface provides methods for managing item stacking.
@@ -28,8 +33,75 @@ public interface Stacker extends Keyed {
      */
     void updateItem(@NonNull final Item item, @NonNull final BigInteger newAmount);
 
+    /**
+     * Retrieves the ItemStack the specified item represents.
+     *
+     * @param item The Item to retrieve the ItemStack for.
+     * @return The ItemStack of the item.
+     */
     ItemStack getItemStack(@NonNull final Item item);
 
+    /**
+     * Retrieves the actual amounts of stacked items for the specified items.
+     * <p>
+     * The default implementation calls {@link #getActualAmount(Item)} for each item.
+     * Stackers that keep their own stack maps should override it to answer all items at once.
+     *
+     * @param items The Items to retrieve the actual amounts for.
+     * @return The actual amounts, keyed by item, in iteration order of {@code items}.
+     */
+    default @NonNull Map<Item, BigInteger> getActualAmounts(@NonNull final Collection<? extends Item> items) {
+        Map<Item, BigInteger> amounts = new LinkedHashMap<>(items.size() * 2);
+        for (Item item : items) {
+            amounts.put(item, getActualAmount(item));
+        }
+        return amounts;
+    }
+
+    /**
+     * Retrieves the ItemStacks the specified items represent.
+     * <p>
+     * The default implementation calls {@link #getItemStack(Item)} for each item.
+     *
+     * @param items The Items to retrieve the ItemStacks for.
+     * @return The ItemStacks, keyed by item, in iteration order of {@code items}.
+     */
+    default @NonNull Map<Item, ItemStack> getItemStacks(@NonNull final Collection<? extends Item> items) {
+        Map<Item, ItemStack> itemStacks = new LinkedHashMap<>(items.size() * 2);
+        for (Item item : items) {
+            itemStacks.put(item, getItemStack(item));
+        }
+        return itemStacks;
+    }
+
+    /**
+     * Resolves both the ItemStack and the actual amount of each specified item in one call.
+     * <p>
+     * This is what the chunk collector uses for the drops of a whole chunk. The default implementation
+     * calls {@link #getItemStack(Item)} and {@link #getActualAmount(Item)} for each item.
+     *
+     * @param items The Items to resolve.
+     * @return The resolved items, in iteration order of {@code items}.
+     */
+    default @NonNull List<StackedItem> resolve(@NonNull final Collection<? extends Item> items) {
+        List<StackedItem> resolved = new ArrayList<>(items.size());
+        for (Item item : items) {
+            resolved.add(new StackedItem(item, getItemStack(item), getActualAmount(item)));
+        }
+        return resolved;
+    }
+
+    /**
+     * Updates the amounts of stacked items for the specified items.
+     * <p>
+     * The default implementation calls {@link #updateItem(Item, BigInteger)} for each entry.
+     *
+     * @param newAmounts The new amounts of stacked items to set, keyed by item.
+     */
+    default void updateItems(@NonNull final Map<? extends Item, BigInteger> newAmounts) {
+        newAmounts.forEach(this::updateItem);
+    }
+
     /**
      * Retrieves the simple name of the Stacker. E.g. UltimateStacker
      *
@@ -107,6 +107,9 @@ public interface ILinkManager {
 
     /**
      * Checks if a specified {@link ContainerWrapper} has any links to any {@link AbstractVoidChest}.
+     * <p>
+     * This is called by every hopper and inventory move event near linked containers, so implementations
+     * should answer it from a {@link LinkIndex} kept up to date by {@code addLink} and {@code removeLink}.
      *
      * @param container The {@link ContainerWrapper} to check.
      * @return {@code true} if the {@link ContainerWrapper} has any links, {@code false} otherwise.
@@ -115,6 +118,8 @@ public interface ILinkManager {
 
     /**
      * Retrieves the {@link AbstractVoidChest} associated with a specified {@link ContainerWrapper}.
+     * <p>
+     * Like {@link #isLinked(ContainerWrapper)}, implementations should answer it from a {@link LinkIndex}.
      *
      * @param container The {@link ContainerWrapper} for which to retrieve the {@link AbstractVoidChest}.
      * @return The {@link AbstractVoidChest} associated with the specified {@link ContainerWrapper}, or {@code Optional.empty()} if no link exists.
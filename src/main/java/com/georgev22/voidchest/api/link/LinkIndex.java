@@ -0,0 +1,344 @@
+package com.georgev22.voidchest.api.link;
+
+import com.georgev22.voidchest.api.datastructures.maps.HashObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.events.voidchest.VoidChestLinkAddEvent;
+import com.georgev22.voidchest.api.events.voidchest.VoidChestLinkRemoveEvent;
+import com.georgev22.voidchest.api.storage.model.AbstractVoidChest;
+import com.georgev22.voidchest.api.utilities.ContainerWrapper;
+import com.georgev22.voidchest.api.utilities.SerializableBlock;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A synchronous reverse index from linked container positions to their {@link ILink}.
+ * <p>
+ * Positions are packed into a single {@code long} per world and kept in an open-addressing table,
+ * so {@link #find(ContainerWrapper)}, {@link #isLinked(ContainerWrapper)} and {@link #getVoidChest(ContainerWrapper)}
+ * neither block nor allocate. Lookups read an immutable table without locking; links change rarely, so
+ * {@link #add(SerializableBlock, ILink)} and {@link #remove(SerializableBlock)} copy the table of the affected world.
+ * Load many links with {@link #addAll(Collection)}, which copies each table once.
+ * <p>
+ * {@link ILinkManager} implementations are expected to update the index from {@code addLink} and {@code removeLink}
+ * and to answer {@link ILinkManager#isLinked(ContainerWrapper)} and {@link ILinkManager#getVoidChest(ContainerWrapper)}
+ * from it. Registered as a listener, the index also follows {@link VoidChestLinkAddEvent} and {@link VoidChestLinkRemoveEvent}.
+ */
+public class LinkIndex implements Listener {
+
+    private final ObjectMap<String, WorldTable> worlds = ObjectMaps.newConcurrentHashObjectMap();
+
+    /**
+     * Packs a block position into a single {@code long}, using 26 bits for x and z and 12 bits for y.
+     * <p>
+     * That covers x and z up to &plusmn;33,554,431, beyond the world border limit, and y from -2048 to 2047,
+     * which includes the tallest worlds datapacks can define.
+     *
+     * @param x The block x coordinate.
+     * @param y The block y coordinate.
+     * @param z The block z coordinate.
+     * @return The packed position.
+     */
+    public static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) | (((long) z & 0x3FFFFFFL) << 26) | ((long) y << 52);
+    }
+
+    /**
+     * Indexes the given link at the given container position, replacing any link already indexed there.
+     *
+     * @param container The position of the linked container.
+     * @param link      The link.
+     */
+    public void add(@NonNull SerializableBlock container, @NonNull ILink link) {
+        worlds.computeIfAbsent(container.getWorldName(), k -> new WorldTable())
+                .put(pack(container.getBlockX(), container.getBlockY(), container.getBlockZ()), link);
+    }
+
+    /**
+     * Indexes the given link at the position of its container. Links whose container cannot be determined are skipped.
+     *
+     * @param link The link.
+     */
+    public void add(@NonNull ILink link) {
+        link.getContainer().ifPresent(container -> add(container, link));
+    }
+
+    /**
+     * Indexes the given links at the positions of their containers, building the table of each world once
+     * rather than copying it per link. Use when loading links in bulk, e.g. on startup.
+     * Links whose container cannot be determined are skipped.
+     *
+     * @param links The links.
+     */
+    public void addAll(@NonNull Collection<? extends ILink> links) {
+        ObjectMap<String, List<Map.Entry<Long, ILink>>> byWorld = new HashObjectMap<>();
+        for (ILink link : links) {
+            link.getContainer().ifPresent(container -> byWorld
+                    .computeIfAbsent(container.getWorldName(), k -> new ArrayList<>())
+                    .add(Map.entry(pack(container.getBlockX(), container.getBlockY(), container.getBlockZ()), link)));
+        }
+        byWorld.forEach((worldName, entries) -> worlds.computeIfAbsent(worldName, k -> new WorldTable()).putAll(entries));
+    }
+
+    /**
+     * Removes the link indexed at the given container position.
+     *
+     * @param container The position of the linked container.
+     * @return The removed link, or {@code null} if no link was indexed there.
+     */
+    public @Nullable ILink remove(@NonNull SerializableBlock container) {
+        WorldTable table = worlds.get(container.getWorldName());
+        return table == null ? null : table.remove(pack(container.getBlockX(), container.getBlockY(), container.getBlockZ()));
+    }
+
+    /**
+     * Removes the given link from the position of its container.
+     *
+     * @param link The link.
+     */
+    public void remove(@NonNull ILink link) {
+        link.getContainer().ifPresent(container -> {
+            WorldTable table = worlds.get(container.getWorldName());
+            if (table != null) {
+                table.remove(pack(container.getBlockX(), container.getBlockY(), container.getBlockZ()), link);
+            }
+        });
+    }
+
+    /**
+     * Removes every link of the given void chest, e.g. after it was broken.
+     *
+     * @param voidChest The void chest.
+     */
+    public void removeAll(@NonNull AbstractVoidChest voidChest) {
+        UUID voidChestId = voidChest.getUniqueId();
+        worlds.values().forEach(table -> table.removeIf(voidChestId));
+    }
+
+    /**
+     * Removes every indexed link.
+     */
+    public void clear() {
+        worlds.clear();
+    }
+
+    /**
+     * Retrieves the link indexed at the given position.
+     *
+     * @param worldName The world name.
+     * @param x         The block x coordinate.
+     * @param y         The block y coordinate.
+     * @param z         The block z coordinate.
+     * @return The link, or {@code null} if the position is not linked.
+     */
+    public @Nullable ILink find(@NonNull String worldName, int x, int y, int z) {
+        WorldTable table = worlds.get(worldName);
+        return table == null ? null : table.get(pack(x, y, z));
+    }
+
+    /**
+     * Retrieves the link of the given container.
+     *
+     * @param container The container.
+     * @return The link, or {@code null} if the container is not linked.
+     */
+    public @Nullable ILink find(@NonNull ContainerWrapper container) {
+        BlockState state = container.getBlockState();
+        return find(state.getWorld().getName(), state.getX(), state.getY(), state.getZ());
+    }
+
+    /**
+     * Checks whether the given container is linked to any void chest.
+     *
+     * @param container The container.
+     * @return {@code true} if the container is linked, {@code false} otherwise.
+     */
+    public boolean isLinked(@NonNull ContainerWrapper container) {
+        return find(container) != null;
+    }
+
+    /**
+     * Retrieves the void chest the given container is linked to.
+     *
+     * @param container The container.
+     * @return The void chest, or {@code null} if the container is not linked.
+     */
+    public @Nullable AbstractVoidChest getVoidChest(@NonNull ContainerWrapper container) {
+        ILink link = find(container);
+        return link == null ? null : link.getVoidChest();
+    }
+
+    /**
+     * Retrieves the number of indexed links.
+     *
+     * @return The number of indexed links.
+     */
+    public int size() {
+        int size = 0;
+        for (WorldTable table : worlds.values()) {
+            size += table.table.size;
+        }
+        return size;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLinkAdd(@NonNull VoidChestLinkAddEvent event) {
+        add(event.getLink());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLinkRemove(@NonNull VoidChestLinkRemoveEvent event) {
+        remove(event.getLink());
+    }
+
+    /**
+     * The links of a single world. Readers use the current table as is; writers replace it with a modified copy.
+     */
+    private static final class WorldTable {
+
+        private volatile Table table = new Table(16);
+
+        private @Nullable ILink get(long key) {
+            return table.get(key);
+        }
+
+        private synchronized void put(long key, @NonNull ILink link) {
+            Table current = table;
+            Table copy = current.size + 1 > current.keys.length / 2
+                    ? current.resized(current.keys.length * 2)
+                    : current.copy();
+            copy.put(key, link);
+            table = copy;
+        }
+
+        private synchronized void putAll(@NonNull List<Map.Entry<Long, ILink>> entries) {
+            Table current = table;
+            int capacity = current.keys.length;
+            while (current.size + entries.size() > capacity / 2) {
+                capacity *= 2;
+            }
+            Table copy = current.resized(capacity);
+            for (Map.Entry<Long, ILink> entry : entries) {
+                copy.put(entry.getKey(), entry.getValue());
+            }
+            table = copy;
+        }
+
+        private synchronized @Nullable ILink remove(long key) {
+            ILink removed = table.get(key);
+            if (removed != null) {
+                table = table.without(key);
+            }
+            return removed;
+        }
+
+        private synchronized void remove(long key, @NonNull ILink link) {
+            if (table.get(key) == link) {
+                table = table.without(key);
+            }
+        }
+
+        private synchronized void removeIf(@NonNull UUID voidChestId) {
+            Table current = table;
+            Table copy = new Table(current.keys.length);
+            for (int i = 0; i < current.keys.length; i++) {
+                ILink link = current.values[i];
+                // By UUID, so links holding a reloaded instance of the void chest are removed too
+                if (link != null && !isOf(link, voidChestId)) {
+                    copy.put(current.keys[i], link);
+                }
+            }
+            if (copy.size != current.size) {
+                table = copy;
+            }
+        }
+
+        private static boolean isOf(@NonNull ILink link, @NonNull UUID voidChestId) {
+            AbstractVoidChest voidChest = link.getVoidChest();
+            return voidChest != null && voidChestId.equals(voidChest.getUniqueId());
+        }
+    }
+
+    /**
+     * A linear-probing hash table from packed positions to links. An empty slot has a {@code null} value.
+     */
+    private static final class Table {
+
+        private final long[] keys;
+        private final ILink[] values;
+        private int size;
+
+        private Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new ILink[capacity];
+        }
+
+        private @Nullable ILink get(long key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                ILink value = values[i];
+                if (value == null) return null;
+                if (keys[i] == key) return value;
+            }
+        }
+
+        private void put(long key, @NonNull ILink link) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; ; i = (i + 1) & mask) {
+                if (values[i] == null) {
+                    keys[i] = key;
+                    values[i] = link;
+                    size++;
+                    return;
+                }
+                if (keys[i] == key) {
+                    values[i] = link;
+                    return;
+                }
+            }
+        }
+
+        private @NonNull Table copy() {
+            Table copy = new Table(keys.length);
+            System.arraycopy(keys, 0, copy.keys, 0, keys.length);
+            System.arraycopy(values, 0, copy.values, 0, values.length);
+            copy.size = size;
+            return copy;
+        }
+
+        private @NonNull Table resized(int capacity) {
+            Table resized = new Table(capacity);
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] != null) {
+                    resized.put(keys[i], values[i]);
+                }
+            }
+            return resized;
+        }
+
+        private @NonNull Table without(long key) {
+            Table copy = new Table(keys.length);
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] != null && keys[i] != key) {
+                    copy.put(keys[i], values[i]);
+                }
+            }
+            return copy;
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.georgev22.voidchest.api.link;
+
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.scheduler.MinecraftScheduler;
+import com.georgev22.voidchest.api.storage.model.voidchest.Abilities;
+import com.georgev22.voidchest.api.utilities.ContainerWrapper;
+import com.georgev22.voidchest.api.utilities.SerializableBlock;
+import com.georgev22.voidchest.api.utilities.SerializableBlock.BlockPos;
+import com.georgev22.voidchest.api.utilities.SerializableContainer;
+import com.georgev22.voidchest.api.utilities.VoidChunk;
+import org.bukkit.Chunk;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Moves items, typically the non-sellables of a void chest with {@link Abilities#transferNonSellable()} enabled,
+ * into the containers of its {@link ILink}s.
+ * <p>
+ * A transfer handles all links of a void chest at once:
+ * <ol>
+ *     <li>the containers are resolved, reusing the {@link ContainerWrapper}s cached by earlier transfers,</li>
+ *     <li>the slot occupancy of every container is captured in one region task per container,</li>
+ *     <li>the items are distributed across the captured snapshots on the planner executor, and</li>
+ *     <li>each container receives all of its planned items in one more region task.</li>
+ * </ol>
+ * With a single resolved container the planning step is skipped and the items are added directly.
+ * Items that do not fit, including items planned for a container that changed in the meantime, are returned
+ * to the caller, who puts them back into the void chest.
+ * <p>
+ * Resolved containers stay cached while their chunk is loaded, indexed by chunk. Registered as a listener, the engine
+ * drops the containers of a chunk on its {@link ChunkUnloadEvent} and a container on its {@link BlockBreakEvent}.
+ * The cached container only locates the block: every snapshot and transfer reads the inventory of the block entity
+ * that is there at that moment, so a container broken and placed again never receives items meant for the old one.
+ */
+public class LinkTransferEngine implements Listener {
+
+    private final ObjectMap<BlockPos, CompletableFuture<ContainerWrapper>> containers = ObjectMaps.newConcurrentHashObjectMap();
+    private final ObjectMap<VoidChunk, Set<BlockPos>> containersByChunk = ObjectMaps.newConcurrentHashObjectMap();
+    private final MinecraftScheduler minecraftScheduler;
+    private final Executor planner;
+
+    /**
+     * Creates a new link transfer engine.
+     *
+     * @param minecraftScheduler The scheduler used to access container inventories on their region thread.
+     * @param planner            The executor used to resolve links and plan transfers.
+     */
+    public LinkTransferEngine(@NonNull MinecraftScheduler minecraftScheduler, @NonNull Executor planner) {
+        this.minecraftScheduler = minecraftScheduler;
+        this.planner = planner;
+    }
+
+    /**
+     * Transfers the given items into the containers of the given links.
+     * <p>
+     * The given items are not modified.
+     *
+     * @param links The links to transfer into, usually {@link ILinkManager#getLinks(com.georgev22.voidchest.api.storage.model.AbstractVoidChest)}.
+     * @param items The items to transfer.
+     * @return A future that completes with the items that could not be transferred.
+     */
+    public @NonNull CompletableFuture<List<ItemStack>> transfer(@NonNull Collection<ILink> links, @NonNull Collection<ItemStack> items) {
+        List<ItemStack> stacks = new ArrayList<>(items.size());
+        for (ItemStack item : items) {
+            if (item != null && !item.getType().isAir() && item.getAmount() > 0) {
+                stacks.add(item.clone());
+            }
+        }
+        if (links.isEmpty() || stacks.isEmpty()) {
+            return CompletableFuture.completedFuture(stacks);
+        }
+        List<ILink> targets = List.copyOf(links);
+        return CompletableFuture.supplyAsync(() -> resolveAll(targets), planner)
+                .thenCompose(LinkTransferEngine::joinResolved)
+                .thenCompose(resolved -> switch (resolved.size()) {
+                    case 0 -> CompletableFuture.completedFuture(stacks);
+                    case 1 -> apply(resolved.getFirst(), stacks);
+                    default -> planAndApply(resolved, stacks);
+                });
+    }
+
+    /**
+     * Drops the cached container at the given position.
+     *
+     * @param container The position of the container.
+     */
+    public void invalidate(@NonNull SerializableBlock container) {
+        uncache(BlockPos.of(container));
+    }
+
+    /**
+     * Drops every cached container.
+     */
+    public void clear() {
+        containers.clear();
+        containersByChunk.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(@NonNull ChunkUnloadEvent event) {
+        if (containersByChunk.isEmpty()) return;
+        Chunk chunk = event.getChunk();
+        Set<BlockPos> unloaded = containersByChunk.remove(new VoidChunk(chunk.getWorld().getName(), chunk.getX(), chunk.getZ()));
+        if (unloaded != null) {
+            unloaded.forEach(containers::remove);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(@NonNull BlockBreakEvent event) {
+        if (containers.isEmpty()) return;
+        uncache(BlockPos.of(event.getBlock()));
+    }
+
+    private static @NonNull VoidChunk chunkOf(@NonNull BlockPos pos) {
+        return new VoidChunk(pos.worldName(), pos.x() >> 4, pos.z() >> 4);
+    }
+
+    private void uncache(@NonNull BlockPos pos) {
+        if (containers.remove(pos) == null) return;
+        VoidChunk chunk = chunkOf(pos);
+        containersByChunk.computeIfPresent(chunk, (key, positions) -> {
+            positions.remove(pos);
+            return positions.isEmpty() ? null : positions;
+        });
+    }
+
+    private @NonNull List<CompletableFuture<ContainerWrapper>> resolveAll(@NonNull List<ILink> links) {
+        List<CompletableFuture<ContainerWrapper>> resolved = new ArrayList<>(links.size());
+        for (ILink link : links) {
+            Optional<SerializableContainer> container = link.getContainer();
+            container.ifPresent(serializableContainer -> resolved.add(resolve(serializableContainer)));
+        }
+        return resolved;
+    }
+
+    private @NonNull CompletableFuture<ContainerWrapper> resolve(@NonNull SerializableContainer container) {
+        BlockPos pos = BlockPos.of(container);
+        CompletableFuture<ContainerWrapper> created = new CompletableFuture<>();
+        CompletableFuture<ContainerWrapper> existing = containers.putIfAbsent(pos, created);
+        if (existing != null) {
+            return existing;
+        }
+        containersByChunk.computeIfAbsent(chunkOf(pos), key -> ConcurrentHashMap.newKeySet()).add(pos);
+        container.toContainerAsync().whenComplete((wrapper, throwable) -> {
+            if (throwable != null) {
+                if (containers.get(pos) == created) {
+                    uncache(pos);
+                }
+                created.completeExceptionally(throwable);
+            } else {
+                created.complete(wrapper);
+            }
+        });
+        return created;
+    }
+
+    private static @NonNull CompletableFuture<List<ContainerWrapper>> joinResolved(@NonNull List<CompletableFuture<ContainerWrapper>> futures) {
+        List<CompletableFuture<@Nullable ContainerWrapper>> settled = new ArrayList<>(futures.size());
+        for (CompletableFuture<ContainerWrapper> future : futures) {
+            settled.add(future.exceptionally(throwable -> null));
+        }
+        return CompletableFuture.allOf(settled.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            List<ContainerWrapper> resolved = new ArrayList<>(settled.size());
+            for (CompletableFuture<@Nullable ContainerWrapper> future : settled) {
+                ContainerWrapper wrapper = future.join();
+                if (wrapper != null && !resolved.contains(wrapper)) {
+                    resolved.add(wrapper);
+                }
+            }
+            return resolved;
+        });
+    }
+
+    private @NonNull CompletableFuture<List<ItemStack>> planAndApply(@NonNull List<ContainerWrapper> targets, @NonNull List<ItemStack> stacks) {
+        List<CompletableFuture<@Nullable Snapshot>> snapshots = new ArrayList<>(targets.size());
+        for (ContainerWrapper target : targets) {
+            snapshots.add(snapshot(target));
+        }
+        return CompletableFuture.allOf(snapshots.toArray(CompletableFuture[]::new))
+                .thenApplyAsync(ignored -> {
+                    List<Snapshot> captured = new ArrayList<>(snapshots.size());
+                    for (CompletableFuture<@Nullable Snapshot> snapshot : snapshots) {
+                        Snapshot value = snapshot.join();
+                        if (value != null) captured.add(value);
+                    }
+                    return plan(captured, stacks);
+                }, planner)
+                .thenCompose(plan -> {
+                    List<CompletableFuture<List<ItemStack>>> applied = new ArrayList<>(plan.moves().size() + 1);
+                    applied.add(CompletableFuture.completedFuture(plan.leftovers()));
+                    for (int i = 0; i < plan.moves().size(); i++) {
+                        List<ItemStack> moves = plan.moves().get(i);
+                        if (!moves.isEmpty()) {
+                            applied.add(apply(plan.targets().get(i), moves));
+                        }
+                    }
+                    return CompletableFuture.allOf(applied.toArray(CompletableFuture[]::new)).thenApply(done -> {
+                        List<ItemStack> leftovers = new ArrayList<>();
+                        for (CompletableFuture<List<ItemStack>> future : applied) {
+                            leftovers.addAll(future.join());
+                        }
+                        return leftovers;
+                    });
+                });
+    }
+
+    private @NonNull CompletableFuture<@Nullable Snapshot> snapshot(@NonNull ContainerWrapper target) {
+        BlockState state = target.getBlockState();
+        return minecraftScheduler.createTaskForLocation(() -> {
+            Inventory inventory = liveInventory(target);
+            if (inventory == null) return null;
+            ItemStack[] contents = inventory.getStorageContents();
+            for (int slot = 0; slot < contents.length; slot++) {
+                if (contents[slot] != null) {
+                    contents[slot] = contents[slot].clone();
+                }
+            }
+            return new Snapshot(target, contents, inventory.getMaxStackSize());
+        }, state.getLocation()).exceptionally(throwable -> null);
+    }
+
+    private @NonNull CompletableFuture<List<ItemStack>> apply(@NonNull ContainerWrapper target, @NonNull List<ItemStack> stacks) {
+        BlockState state = target.getBlockState();
+        return minecraftScheduler.createTaskForLocation(() -> {
+            Inventory inventory = liveInventory(target);
+            if (inventory == null) return stacks;
+            return new ArrayList<>(inventory.addItem(stacks.toArray(ItemStack[]::new)).values());
+        }, state.getLocation()).exceptionally(throwable -> stacks);
+    }
+
+    /**
+     * Retrieves, on the region thread of the container, the inventory of the block entity that is at the position
+     * of the cached container now, rather than the one the cached state was taken from.
+     *
+     * @return The live inventory, or {@code null} if the container is gone, in which case it is uncached.
+     */
+    private @Nullable Inventory liveInventory(@NonNull ContainerWrapper target) {
+        BlockState cached = target.getBlockState();
+        Block block = cached.getBlock();
+        if (block.getType() == cached.getType() && block.getState(false) instanceof Container container) {
+            return container.getInventory();
+        }
+        uncache(BlockPos.of(block));
+        return null;
+    }
+
+    /**
+     * Distributes the given stacks across the captured snapshots, filling partial stacks before empty slots,
+     * and containers in link order.
+     */
+    private static @NonNull Plan plan(@NonNull List<Snapshot> snapshots, @NonNull List<ItemStack> stacks) {
+        List<ContainerWrapper> targets = new ArrayList<>(snapshots.size());
+        List<List<ItemStack>> moves = new ArrayList<>(snapshots.size());
+        for (Snapshot snapshot : snapshots) {
+            targets.add(snapshot.target());
+            moves.add(new ArrayList<>());
+        }
+        List<ItemStack> leftovers = new ArrayList<>();
+
+        for (ItemStack stack : stacks) {
+            int remaining = stack.getAmount();
+            for (int i = 0; i < snapshots.size() && remaining > 0; i++) {
+                Snapshot snapshot = snapshots.get(i);
+                int moved = snapshot.fill(stack, remaining);
+                if (moved > 0) {
+                    ItemStack move = stack.clone();
+                    move.setAmount(moved);
+                    moves.get(i).add(move);
+                    remaining -= moved;
+                }
+            }
+            if (remaining > 0) {
+                ItemStack leftover = stack.clone();
+                leftover.setAmount(remaining);
+                leftovers.add(leftover);
+            }
+        }
+        return new Plan(targets, moves, leftovers);
+    }
+
+    private record Plan(List<ContainerWrapper> targets, List<List<ItemStack>> moves, List<ItemStack> leftovers) {
+    }
+
+    /**
+     * The slot occupancy of a container, updated in place while planning.
+     */
+    private record Snapshot(ContainerWrapper target, @Nullable ItemStack[] contents, int maxStackSize) {
+
+        private int fill(@NonNull ItemStack stack, int amount) {
+            int limit = Math.min(stack.getMaxStackSize(), maxStackSize);
+            int remaining = amount;
+            for (int slot = 0; slot < contents.length && remaining > 0; slot++) {
+                ItemStack content = contents[slot];
+                if (content != null && content.getAmount() < limit && content.isSimilar(stack)) {
+                    int added = Math.min(limit - content.getAmount(), remaining);
+                    content.setAmount(content.getAmount() + added);
+                    remaining -= added;
+                }
+            }
+            for (int slot = 0; slot < contents.length && remaining > 0; slot++) {
+                ItemStack content = contents[slot];
+                if (content == null || content.getType().isAir()) {
+                    int added = Math.min(limit, remaining);
+                    ItemStack placed = stack.clone();
+                    placed.setAmount(added);
+                    contents[slot] = placed;
+                    remaining -= added;
+                }
+            }
+            return amount - remaining;
+        }
+    }
+}
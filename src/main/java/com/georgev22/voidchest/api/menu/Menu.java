@@ -4,17 +4,21 @@ import com.georgev22.voidchest.api.VoidChestAPI;
 import com.georgev22.voidchest.api.animation.engine.AnimationInstance;
 import com.georgev22.voidchest.api.datastructures.maps.HashObjectMap;
 import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
 import com.georgev22.voidchest.api.datastructures.maps.UnmodifiableObjectMap;
 import com.georgev22.voidchest.api.menu.actions.Action;
 import com.georgev22.voidchest.api.menu.filter.ItemsFilter;
 import com.georgev22.voidchest.api.menu.item.items.MenuFrameItem;
 import com.georgev22.voidchest.api.menu.item.items.MenuItem;
+import com.georgev22.voidchest.api.menu.item.items.MenuItemRenderCache;
 import com.georgev22.voidchest.api.menu.item.items.StatefulMenuItem;
+import com.georgev22.voidchest.api.menu.paging.MenuItemSource;
 import com.georgev22.voidchest.api.menu.viewer.ViewerContext;
 import com.georgev22.voidchest.api.utilities.CustomData;
 import com.georgev22.voidchest.api.utilities.message.MessageBuilder;
 import com.georgev22.voidchest.api.utilities.message.Placeholder;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
@@ -27,7 +31,6 @@ import org.jspecify.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -37,13 +40,18 @@ import java.util.stream.Collectors;
  * Represents a menu which can be opened by a player.
  * It contains items, reserved slots, and a title. The menu is paginated to allow for a
  * large number of items to be displayed across multiple pages.
+ * <p>
+ * Pages are read from a {@link MenuItemSource}, either the items added to the menu or a source set with
+ * {@link #setItemSource(MenuItemSource)}. Only the items of the shown page are looked up, and the filtered
+ * view of each viewer is kept until the items or the viewer's filter change, so flipping pages does not
+ * go through the whole item list again.
  */
 public class Menu {
 
     private final VoidChestAPI voidChestAPI = VoidChestAPI.getInstance();
     private final List<MenuItem> items = new ArrayList<>();
     private final List<ViewerContext> viewers = new ArrayList<>();
-    private final List<Integer> reservedSlots;
+    private final BitSet reservedSlots = new BitSet();
     private final ObjectMap<Integer, MenuItem> reservedItems = new HashObjectMap<>();
     private final int rows;
     private final Component title;
@@ -56,6 +64,13 @@ public class Menu {
     private final ObjectMap<UUID, Function<ViewerContext, Placeholder>> perViewerPlaceholderFunctions = new HashObjectMap<>();
     private final List<MenuItem> pendingItems = new ArrayList<>();
     private final ObjectMap<UUID, ItemsFilter> perViewerFilters = new HashObjectMap<>();
+    private final ObjectMap<UUID, ViewerItems> perViewerItems = ObjectMaps.newConcurrentHashObjectMap();
+    /**
+     * The items each viewer was attached to, across every page it visited, so all of them can be detached.
+     */
+    private final ObjectMap<ViewerContext, Set<MenuItem>> attachedItems = ObjectMaps.newConcurrentHashObjectMap();
+    private @Nullable MenuItemSource itemSource;
+    private volatile long itemsVersion;
 
     /**
      * Constructs a Menu with a specified title and number of rows.
@@ -77,7 +92,7 @@ public class Menu {
     public Menu(Component title, int rows, List<Integer> reservedSlots) {
         this.rows = rows;
         this.title = title;
-        this.reservedSlots = new ArrayList<>(reservedSlots);
+        reservedSlots.forEach(this.reservedSlots::set);
     }
 
     /**
@@ -133,6 +148,15 @@ public class Menu {
         });
     }
 
+    /**
+     * Updates the inventory of a specific viewer.
+     * <p>
+     * All slots are built in a single asynchronous task, and the built items are written to the inventory
+     * in a single task on the thread of the viewer, so an update costs two scheduler hops regardless of
+     * the number of items. Results of an update that was superseded or invalidated in between are discarded.
+     *
+     * @param viewerContext The viewer context to update.
+     */
     public void update(@NonNull ViewerContext viewerContext) {
         if (viewerContext.isUpdating() || viewerContext.isInvalidated()) return;
         if (Bukkit.isStopping()) return;
@@ -141,83 +165,92 @@ public class Menu {
         Inventory inventory = viewerContext.getInventory();
 
         long version = viewerContext.beginUpdate();
-        AtomicInteger pendingTasks = new AtomicInteger(0);
 
         List<MenuItem> pageItems = getPageItems(viewerContext, viewerContext.getPage());
         int itemIndex = 0;
         int slotCount = rows * 9;
+        MenuItem[] slotItems = new MenuItem[slotCount];
+        boolean hasItems = false;
 
-        // Clear non-reserved slots (sync)
         for (int slot = 0; slot < slotCount; slot++) {
-            if (!reservedSlots.contains(slot)) {
-                inventory.setItem(slot, null);
-            }
-        }
-
-        for (int slot = 0; slot < slotCount; slot++) {
-            if (viewerContext.isInvalidated()) break;
-
             MenuItem item = null;
 
-            if (reservedSlots.contains(slot)) {
+            if (reservedSlots.get(slot)) {
                 item = reservedItems.get(slot);
-            } else if (itemIndex < pageItems.size()) {
-                item = pageItems.get(itemIndex++);
+            } else {
+                // Clear non-reserved slots (sync)
+                inventory.setItem(slot, null);
+                if (itemIndex < pageItems.size()) {
+                    item = pageItems.get(itemIndex++);
+                }
             }
 
-            if (item != null) {
-                scheduleSlotRender(viewerContext, inventory, pendingTasks, slot, item, version);
-            }
+            slotItems[slot] = item;
+            hasItems |= item != null;
         }
 
         // No async work finish immediately
-        // probably check for edge cases
-        if (pendingTasks.get() == 0) {
+        if (!hasItems) {
             finishUpdate(viewerContext, version);
+            return;
         }
-    }
-
-    private void scheduleSlotRender(
-            @NonNull ViewerContext viewerContext,
-            @NonNull Inventory inventory,
-            @NonNull AtomicInteger pendingTasks,
-            int slot,
-            @NonNull MenuItem menuItem,
-            long version
-    ) {
-        pendingTasks.incrementAndGet();
 
         CompletableFuture
-                .supplyAsync(() -> buildMenuItem(viewerContext, menuItem, 0), this.voidChestAPI.timedTaskManager().getScheduler())
-                .handle((item, error) -> {
-                    if (error != null) {
-                        voidChestAPI.plugin().getLogger()
-                                .log(Level.WARNING, "Failed to render menu item: " + item, error);
-                        return null;
-                    }
-                    return item;
+                .supplyAsync(() -> renderSlots(viewerContext, slotItems, version), this.voidChestAPI.timedTaskManager().getScheduler())
+                .exceptionally(error -> {
+                    voidChestAPI.plugin().getLogger().log(Level.WARNING, "Failed to render menu " + this.getTitle(), error);
+                    return new ItemStack[slotCount];
                 })
-                .thenAccept(item -> this.voidChestAPI
+                .thenAccept(rendered -> this.voidChestAPI
                         .minecraftScheduler()
-                        .createTaskForEntity(() -> {
-                            if (!viewerContext.isUpdateValid(version)) {
-                                if (pendingTasks.decrementAndGet() == 0) {
-                                    finishUpdate(viewerContext, version);
-                                }
-                                return;
-                            }
-
-                            if (item != null) {
-                                menuItem.setSlot(slot);
-                                menuItem.addViewerContext(viewerContext);
-                                inventory.setItem(slot, item);
-                            }
+                        .createTaskForEntity(
+                                () -> applySlots(viewerContext, inventory, slotItems, rendered, version),
+                                viewerContext::invalidate,
+                                viewerContext.getPlayerContext()
+                        ));
+    }
 
-                            if (pendingTasks.decrementAndGet() == 0) {
-                                finishUpdate(viewerContext, version);
-                            }
+    /**
+     * Builds the item of every slot. Slots without an item, or whose item failed to build, stay {@code null}.
+     */
+    private ItemStack @NonNull [] renderSlots(@NonNull ViewerContext viewerContext, MenuItem @NonNull [] slotItems, long version) {
+        ItemStack[] rendered = new ItemStack[slotItems.length];
+        for (int slot = 0; slot < slotItems.length; slot++) {
+            if (!viewerContext.isUpdateValid(version)) break;
+
+            MenuItem menuItem = slotItems[slot];
+            if (menuItem == null) continue;
+            try {
+                rendered[slot] = buildMenuItem(viewerContext, menuItem, 0);
+            } catch (Exception e) {
+                voidChestAPI.plugin().getLogger()
+                        .log(Level.WARNING, "Failed to render menu item at slot " + slot, e);
+            }
+        }
+        return rendered;
+    }
 
-                        }, viewerContext::invalidate, viewerContext.getPlayerContext()));
+    private void applySlots(
+            @NonNull ViewerContext viewerContext,
+            @NonNull Inventory inventory,
+            MenuItem @NonNull [] slotItems,
+            ItemStack @NonNull [] rendered,
+            long version
+    ) {
+        if (viewerContext.isUpdateValid(version)) {
+            for (int slot = 0; slot < slotItems.length; slot++) {
+                ItemStack item = rendered[slot];
+                if (item == null) continue;
+
+                MenuItem menuItem = slotItems[slot];
+                menuItem.setSlot(slot);
+                menuItem.addViewerContext(viewerContext);
+                attachedItems.computeIfAbsent(viewerContext,
+                        k -> Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()))).add(menuItem);
+                inventory.setItem(slot, item);
+            }
+        }
+        finishUpdate(viewerContext, version);
     }
 
     private void finishUpdate(@NonNull ViewerContext viewerContext, long version) {
@@ -234,7 +267,7 @@ public class Menu {
      * @return The number of items that can fit on a page.
      */
     public int getItemsPerPage() {
-        return (rows * 9) - reservedSlots.size();
+        return (rows * 9) - reservedSlots.cardinality();
     }
 
     /**
@@ -246,22 +279,76 @@ public class Menu {
      */
     @UnmodifiableView
     public List<MenuItem> getPageItems(@Nullable ViewerContext viewerContext, int page) {
-        List<MenuItem> sourceItems = new ArrayList<>(items);
-
-        if (viewerContext != null) {
-            UUID id = viewerContext.getPlayerContext().getUniqueId();
-            ItemsFilter filter = perViewerFilters.get(id);
-            if (filter != null) {
-                sourceItems = filter.apply(viewerContext, sourceItems);
-            }
+        int itemsPerPage = getItemsPerPage();
+        if (page < 0 || itemsPerPage <= 0) {
+            return List.of();
         }
+        return getItemSource(viewerContext).range(page * itemsPerPage, itemsPerPage);
+    }
 
-        int start = page * getItemsPerPage();
-        if (start >= sourceItems.size()) {
-            return List.of();
+    /**
+     * Gets the source the pages of this menu are read from, before any viewer filter.
+     *
+     * @return The source set with {@link #setItemSource(MenuItemSource)}, or a view of the added items.
+     */
+    public @NonNull MenuItemSource getItemSource() {
+        MenuItemSource source = this.itemSource;
+        return source != null ? source : MenuItemSource.of(items);
+    }
+
+    /**
+     * Gets the items shown to a viewer, with the viewer's filter applied.
+     * <p>
+     * The view of a {@link ItemsFilter#isStable() stable} filter is kept per viewer, so a lazy filter resumes
+     * where the previous page stopped. It is recreated when the items of the menu or the filter of the viewer
+     * change. Other filters are applied again on every call.
+     *
+     * @param viewerContext The viewer context to use for filtering items, or {@code null} for no filtering.
+     * @return The items shown to the viewer.
+     */
+    public @NonNull MenuItemSource getItemSource(@Nullable ViewerContext viewerContext) {
+        MenuItemSource source = getItemSource();
+        if (viewerContext == null) {
+            return source;
+        }
+        UUID id = viewerContext.getPlayerContext().getUniqueId();
+        ItemsFilter filter = perViewerFilters.get(id);
+        if (filter == null) {
+            return source;
+        }
+        if (!filter.isStable()) {
+            perViewerItems.remove(id);
+            return filter.apply(viewerContext, source);
         }
-        int end = Math.min(sourceItems.size(), start + getItemsPerPage());
-        return List.copyOf(sourceItems.subList(start, end));
+        long version = this.itemsVersion;
+        ViewerItems viewerItems = perViewerItems.get(id);
+        if (viewerItems == null || viewerItems.version() != version || viewerItems.filter() != filter) {
+            viewerItems = new ViewerItems(version, filter, filter.apply(viewerContext, source));
+            perViewerItems.put(id, viewerItems);
+        }
+        return viewerItems.items();
+    }
+
+    /**
+     * Sets a source to read the pages of this menu from, instead of the items added to the menu.
+     * <p>
+     * Use {@link MenuItemSource#lazy(java.util.function.IntSupplier, java.util.function.IntFunction)} for
+     * menus listing many entries, so only the items of shown pages are created. Set the source again after
+     * its contents changed, so the filtered views of the viewers are recreated.
+     *
+     * @param itemSource The source, or {@code null} to page through the added items again.
+     */
+    public void setItemSource(@Nullable MenuItemSource itemSource) {
+        this.itemSource = itemSource;
+        itemsChanged();
+    }
+
+    /**
+     * Drops the filtered views of every viewer, after the items of the menu changed.
+     */
+    private void itemsChanged() {
+        itemsVersion++;
+        perViewerItems.clear();
     }
 
     /**
@@ -348,7 +435,20 @@ public class Menu {
      * @return True if there is a next page; otherwise, false.
      */
     public boolean hasNextPage(int page) {
-        return items.size() > (page + 1) * getItemsPerPage();
+        return getItemSource().hasMoreThan((page + 1) * getItemsPerPage());
+    }
+
+    /**
+     * Checks if there is a next page available for a viewer, with the viewer's filter applied.
+     * <p>
+     * Lazily filtered items are only tested up to the first item of the next page.
+     *
+     * @param viewerContext The viewer context to use for filtering items.
+     * @param page          The current page number.
+     * @return True if there is a next page; otherwise, false.
+     */
+    public boolean hasNextPage(@Nullable ViewerContext viewerContext, int page) {
+        return getItemSource(viewerContext).hasMoreThan((page + 1) * getItemsPerPage());
     }
 
     /**
@@ -372,7 +472,7 @@ public class Menu {
     public int getPageCount() {
         int itemsPerPage = getItemsPerPage();
         if (itemsPerPage <= 0) return 1;
-        return Math.max(1, (int) Math.ceil((double) items.size() / itemsPerPage));
+        return Math.max(1, (int) Math.ceil((double) getItemSource().size() / itemsPerPage));
     }
 
     /**
@@ -412,6 +512,7 @@ public class Menu {
      */
     public void addItem(MenuItem menuItem) {
         this.items.add(menuItem);
+        itemsChanged();
     }
 
     /**
@@ -457,6 +558,7 @@ public class Menu {
         List<MenuItem> addedItems = new ArrayList<>(pendingItems);
         pendingItems.clear();
         items.addAll(addedItems);
+        itemsChanged();
 
         int page = viewerContext.getPage();
         int start = page * getItemsPerPage();
@@ -478,7 +580,9 @@ public class Menu {
      * @param menuItem The item to remove from the menu.
      */
     public void removeItem(MenuItem menuItem) {
-        this.items.remove(menuItem);
+        if (this.items.remove(menuItem)) {
+            itemsChanged();
+        }
     }
 
     /**
@@ -488,9 +592,7 @@ public class Menu {
      * @param menuItem The item to set in the reserved slot.
      */
     public void setReservedItemSlot(int slot, MenuItem menuItem) {
-        if (!reservedSlots.contains(slot)) {
-            reservedSlots.add(slot);
-        }
+        reservedSlots.set(slot);
         reservedItems.put(slot, menuItem);
     }
 
@@ -512,6 +614,13 @@ public class Menu {
      */
     public void removeViewer(ViewerContext viewerContext) {
         viewers.remove(viewerContext);
+        Set<MenuItem> attached = attachedItems.remove(viewerContext);
+        if (attached != null) {
+            synchronized (attached) {
+                attached.forEach(item -> item.removeViewerContext(viewerContext));
+            }
+        }
+        perViewerItems.remove(viewerContext.getPlayerContext().getUniqueId());
         items.forEach(item -> item.removeViewerContext(viewerContext));
         reservedItems.forEach((slot, menuItem) -> menuItem.removeViewerContext(viewerContext));
     }
@@ -567,6 +676,7 @@ public class Menu {
         if (items.contains(oldItem)) {
             int index = items.indexOf(oldItem);
             items.set(index, newItem);
+            itemsChanged();
         }
         if (reservedItems.containsKey(oldItem.getSlot())) {
             reservedItems.replace(oldItem.getSlot(), newItem);
@@ -633,6 +743,7 @@ public class Menu {
      */
     public void clearItems() {
         items.clear();
+        itemsChanged();
     }
 
     /**
@@ -756,6 +867,10 @@ public class Menu {
     /**
      * Helper method to build a menu item.
      * It is not recommended to use this method directly, is not a public API.
+     * <p>
+     * Renders are cached per menu item by item version, placeholder snapshot, frame and state, so static
+     * items are only built again after {@link MenuItem#notifyContext()}, a state change or a placeholder change.
+     * Items with a color animation, and items showing PlaceholderAPI placeholders to a player, are always built.
      *
      * @param context    The viewer context.
      * @param menuItem   The menu item to build.
@@ -764,9 +879,88 @@ public class Menu {
      */
     @ApiStatus.Internal
     public static @NonNull ItemStack buildMenuItem(ViewerContext context, MenuItem menuItem, int frameIndex) {
-        ItemStack baseItem;
+        return buildRenderedMenuItem(context, menuItem, frameIndex).itemStack();
+    }
+
+    /**
+     * Helper method to build a menu item together with a hash of its content.
+     * It is not recommended to use this method directly, is not a public API.
+     * <p>
+     * Works like {@link #buildMenuItem(ViewerContext, MenuItem, int)}. For cached renders, the hash is derived
+     * from the menu item and the render cache key without looking at the item stack; for other renders, it is
+     * the hash of the item stack.
+     *
+     * @param context    The viewer context.
+     * @param menuItem   The menu item to build.
+     * @param frameIndex The frame index.
+     * @return The built menu item and its content hash.
+     */
+    @ApiStatus.Internal
+    public static @NonNull RenderedItem buildRenderedMenuItem(ViewerContext context, MenuItem menuItem, int frameIndex) {
+        int state = 0;
         if (menuItem instanceof StatefulMenuItem statefulMenuItem) {
             statefulMenuItem.updateState(context);
+            state = statefulMenuItem.getCurrentState();
+        }
+
+        // Color animations change on every call and cannot be cached
+        if (menuItem.hasAnimation() && menuItem.hasColors()) {
+            return RenderedItem.of(renderMenuItem(context, menuItem, frameIndex));
+        }
+
+        long version = menuItem.getVersion();
+        MenuItemRenderCache renderCache = menuItem.getRenderCache();
+        if (hasExternalPlaceholders(menuItem, renderCache, version)
+                && context.getPlaceholderSnapshot().isExternallyResolved()) {
+            return RenderedItem.of(renderMenuItem(context, menuItem, frameIndex));
+        }
+
+        int frame = menuItem.hasFrames() ? frameIndex : 0;
+        MenuItemRenderCache.Key key = new MenuItemRenderCache.Key(
+                version, context.getPlaceholderSnapshot(), context.getPlaceholderSnapshotHash(), frame, state);
+        int contentHash = 31 * menuItem.hashCode() + key.hashCode();
+        ItemStack cached = renderCache.get(key);
+        if (cached != null) {
+            return new RenderedItem(cached, contentHash, new CachedRender(menuItem, key));
+        }
+        ItemStack rendered = renderMenuItem(context, menuItem, frameIndex);
+        if (menuItem.getVersion() == version) {
+            renderCache.put(key, rendered);
+            return new RenderedItem(rendered, contentHash, new CachedRender(menuItem, key));
+        }
+        return RenderedItem.of(rendered);
+    }
+
+    /**
+     * Checks whether the name or lore of the item contains PlaceholderAPI bracket placeholders, whose values
+     * are not part of the placeholder snapshot. Computed once per item version.
+     */
+    private static boolean hasExternalPlaceholders(@NonNull MenuItem menuItem, @NonNull MenuItemRenderCache renderCache, long version) {
+        Boolean known = renderCache.hasExternalPlaceholders(version);
+        if (known != null) {
+            return known;
+        }
+        ItemStack item = menuItem.getItemProvider().get();
+        boolean external = false;
+        if (item.hasItemMeta()) {
+            ItemMeta meta = item.getItemMeta();
+            List<Component> text = new ArrayList<>();
+            if (meta.hasDisplayName()) text.add(meta.displayName());
+            if (meta.hasLore() && meta.lore() != null) text.addAll(meta.lore());
+            for (Component component : text) {
+                if (component != null && MiniMessage.miniMessage().serialize(component).indexOf('{') != -1) {
+                    external = true;
+                    break;
+                }
+            }
+        }
+        renderCache.setExternalPlaceholders(version, external);
+        return external;
+    }
+
+    private static @NonNull ItemStack renderMenuItem(ViewerContext context, MenuItem menuItem, int frameIndex) {
+        ItemStack baseItem;
+        if (menuItem instanceof StatefulMenuItem statefulMenuItem) {
             baseItem = Objects.requireNonNullElseGet(
                     statefulMenuItem.getStateProvider(statefulMenuItem.getCurrentState()),
                     statefulMenuItem::getItemProvider
@@ -803,14 +997,13 @@ public class Menu {
             oldLore = new ArrayList<>();
         }
 
+        Placeholder placeholders = context.getPlaceholderSnapshot();
         Component newName = MessageBuilder.builder()
-                .placeholderContext(context.getPlayerContext())
-                .placeholders(context.getMenu().getPlaceholders(context))
+                .sharedPlaceholders(placeholders)
                 .append(oldName).build();
         List<Component> newLore = oldLore.stream()
                 .map(lore -> MessageBuilder.builder()
-                        .placeholderContext(context.getPlayerContext())
-                        .placeholders(context.getMenu().getPlaceholders(context))
+                        .sharedPlaceholders(placeholders)
                         .append(lore).build())
                 .collect(Collectors.toList());
 
@@ -839,4 +1032,56 @@ public class Menu {
 
         return finalItemStack;
     }
+
+    /**
+     * A built menu item together with a hash of its content. Equal content has an equal hash, so a slot only
+     * needs to be sent again when the hash changed. Since different content can share a hash, a matching hash
+     * is confirmed with {@link #sameContent(long, Object)} before a slot is skipped.
+     *
+     * @param itemStack   The built item stack.
+     * @param contentHash The hash of the content.
+     * @param identity    What the content is derived from: the render cache entry for cached renders,
+     *                    otherwise the item stack itself.
+     */
+    @ApiStatus.Internal
+    public record RenderedItem(@NonNull ItemStack itemStack, int contentHash, @NonNull Object identity) {
+
+        private static @NonNull RenderedItem of(@NonNull ItemStack itemStack) {
+            return new RenderedItem(itemStack, itemStack.hashCode(), itemStack);
+        }
+
+        /**
+         * Checks whether this render shows the same content as an earlier render.
+         *
+         * @param previousHash     The content hash of the earlier render.
+         * @param previousIdentity The identity of the earlier render, or {@code null} if there was none.
+         * @return {@code true} if the slot showing the earlier render does not need to be sent again.
+         */
+        public boolean sameContent(long previousHash, @Nullable Object previousIdentity) {
+            return previousHash == contentHash && identity.equals(previousIdentity);
+        }
+    }
+
+    /**
+     * The render cache entry a cached render came from. Menu items are compared by identity, since two
+     * distinct items can be equal while rendering differently.
+     */
+    private record CachedRender(@NonNull MenuItem menuItem, MenuItemRenderCache.@NonNull Key key) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CachedRender other && menuItem == other.menuItem && key.equals(other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(menuItem) + key.hashCode();
+        }
+    }
+
+    /**
+     * The filtered items of a viewer, valid while the menu items are at {@code version} and the filter is unchanged.
+     */
+    private record ViewerItems(long version, @NonNull ItemsFilter filter, @NonNull MenuItemSource items) {
+    }
 }
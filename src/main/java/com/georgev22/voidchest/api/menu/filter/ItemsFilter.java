@@ -1,11 +1,14 @@
 package com.georgev22.voidchest.api.menu.filter;
 
 import com.georgev22.voidchest.api.menu.item.items.MenuItem;
+import com.georgev22.voidchest.api.menu.paging.MenuItemSource;
 import com.georgev22.voidchest.api.menu.viewer.ViewerContext;
 import org.jetbrains.annotations.Contract;
 import org.jspecify.annotations.NonNull;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Represents a filter for menu items. Filters can be used to
@@ -14,6 +17,13 @@ import java.util.List;
  *
  * <p>Filters are applied before pagination, so they control which
  * items will be visible on each page of the menu.</p>
+ *
+ * <p>Menus page through a {@link MenuItemSource} and apply filters with
+ * {@link #apply(ViewerContext, MenuItemSource)}. By default, that copies the
+ * source into a list for {@link #apply(ViewerContext, List)}; filters that can
+ * work on the source directly, like {@link #matching(Predicate)} and
+ * {@link #sortedBy(Comparator)}, override it so only the items of the shown
+ * page are looked at.</p>
  */
 @FunctionalInterface
 public interface ItemsFilter {
@@ -28,26 +38,127 @@ public interface ItemsFilter {
     @NonNull List<MenuItem> apply(@NonNull ViewerContext viewerContext,
                                   @NonNull List<MenuItem> items);
 
+    /**
+     * Apply this filter to a source of menu items for a specific viewer.
+     *
+     * @param viewerContext The context of the viewer this filter is applied for.
+     * @param items         The input source of items before filtering.
+     * @return A source of items after filtering. Never {@code null}.
+     */
+    default @NonNull MenuItemSource apply(@NonNull ViewerContext viewerContext,
+                                          @NonNull MenuItemSource items) {
+        return MenuItemSource.of(apply(viewerContext, items.toList()));
+    }
+
+    /**
+     * Checks whether this filter gives the same result for the same items every time it is applied, so the
+     * filtered view can be kept and paged through until the items of the menu or the filter change.
+     * <p>
+     * Filters that depend on anything else, like the time or data outside the menu, must not be kept and are
+     * applied again for every page. Filters are not stable unless they say so.
+     *
+     * @return {@code true} if the result only depends on the items.
+     */
+    default boolean isStable() {
+        return false;
+    }
+
+    /**
+     * Create a filter that keeps the items matching the predicate, in their current order.
+     * Items are tested lazily, as pages are shown.
+     * <p>
+     * The filter is {@link #isStable() stable}, so the predicate must only depend on the item.
+     *
+     * @param predicate The predicate items must match.
+     * @return The filter.
+     */
+    @Contract(pure = true)
+    static @NonNull ItemsFilter matching(@NonNull Predicate<MenuItem> predicate) {
+        return new ItemsFilter() {
+            @Override
+            public @NonNull List<MenuItem> apply(@NonNull ViewerContext viewerContext, @NonNull List<MenuItem> items) {
+                return items.stream().filter(predicate).toList();
+            }
+
+            @Override
+            public @NonNull MenuItemSource apply(@NonNull ViewerContext viewerContext, @NonNull MenuItemSource items) {
+                return items.filter(predicate);
+            }
+
+            @Override
+            public boolean isStable() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Create a filter that orders the items with the comparator.
+     * <p>
+     * The filter is {@link #isStable() stable}, so the comparator must only depend on the items.
+     *
+     * @param comparator The order of the items.
+     * @return The filter.
+     */
+    @Contract(pure = true)
+    static @NonNull ItemsFilter sortedBy(@NonNull Comparator<? super MenuItem> comparator) {
+        return new ItemsFilter() {
+            @Override
+            public @NonNull List<MenuItem> apply(@NonNull ViewerContext viewerContext, @NonNull List<MenuItem> items) {
+                return items.stream().sorted(comparator).toList();
+            }
+
+            @Override
+            public @NonNull MenuItemSource apply(@NonNull ViewerContext viewerContext, @NonNull MenuItemSource items) {
+                return items.sorted(comparator);
+            }
+
+            @Override
+            public boolean isStable() {
+                return true;
+            }
+        };
+    }
+
     /**
      * Combine multiple filters into one, applying them sequentially
      * in the order they appear in the list.
+     * The result is {@link #isStable() stable} if every filter is.
      *
      * @param filters The filters to chain together.
      * @return A single filter that applies each filter in sequence.
      */
     @Contract(pure = true)
     static @NonNull ItemsFilter chain(List<ItemsFilter> filters) {
-        return (viewerContext, items) -> {
-            List<MenuItem> result = items;
-            for (ItemsFilter filter : filters) {
-                result = filter.apply(viewerContext, result);
+        return new ItemsFilter() {
+            @Override
+            public @NonNull List<MenuItem> apply(@NonNull ViewerContext viewerContext, @NonNull List<MenuItem> items) {
+                List<MenuItem> result = items;
+                for (ItemsFilter filter : filters) {
+                    result = filter.apply(viewerContext, result);
+                }
+                return result;
+            }
+
+            @Override
+            public @NonNull MenuItemSource apply(@NonNull ViewerContext viewerContext, @NonNull MenuItemSource items) {
+                MenuItemSource result = items;
+                for (ItemsFilter filter : filters) {
+                    result = filter.apply(viewerContext, result);
+                }
+                return result;
+            }
+
+            @Override
+            public boolean isStable() {
+                return filters.stream().allMatch(ItemsFilter::isStable);
             }
-            return result;
         };
     }
 
     /**
      * Combine two filters into one, applying {@code first} followed by {@code second}.
+     * The result is {@link #isStable() stable} if both filters are.
      *
      * @param first  The first filter to apply.
      * @param second The second filter to apply.
@@ -55,7 +166,21 @@ public interface ItemsFilter {
      */
     @Contract(pure = true)
     static @NonNull ItemsFilter chain(ItemsFilter first, ItemsFilter second) {
-        return (viewerContext, items) ->
-                second.apply(viewerContext, first.apply(viewerContext, items));
+        return new ItemsFilter() {
+            @Override
+            public @NonNull List<MenuItem> apply(@NonNull ViewerContext viewerContext, @NonNull List<MenuItem> items) {
+                return second.apply(viewerContext, first.apply(viewerContext, items));
+            }
+
+            @Override
+            public @NonNull MenuItemSource apply(@NonNull ViewerContext viewerContext, @NonNull MenuItemSource items) {
+                return second.apply(viewerContext, first.apply(viewerContext, items));
+            }
+
+            @Override
+            public boolean isStable() {
+                return first.isStable() && second.isStable();
+            }
+        };
     }
 }
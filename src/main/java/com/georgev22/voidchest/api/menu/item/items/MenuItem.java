@@ -43,6 +43,8 @@ public class MenuItem implements Cloneable, Copyable<MenuItem> {
     private transient AnimationInstance<Component> animationInstance;
     private int slot = -1;
     private final Set<ViewerContext> contexts = new HashSet<>();
+    private transient volatile long version;
+    private transient MenuItemRenderCache renderCache = new MenuItemRenderCache();
 
     public MenuItem(@NonNull ItemProvider itemProvider) {
         this(itemProvider, null);
@@ -126,6 +128,10 @@ public class MenuItem implements Cloneable, Copyable<MenuItem> {
 
     /**
      * Gets the ItemProvider of this menu item.
+     * <p>
+     * Renders are cached per {@link #getVersion() version}, so changing the returned provider or its item
+     * in place is not shown until the item is replaced through {@link #setItemStack(ItemProvider)} or
+     * marked changed through {@link #notifyContext()}.
      *
      * @return The ItemProvider representing the menu item.
      */
@@ -151,6 +157,7 @@ public class MenuItem implements Cloneable, Copyable<MenuItem> {
      */
     public void setItemStack(@NonNull ItemProvider itemProvider) {
         this.itemProvider = itemProvider;
+        changed();
     }
 
     /**
@@ -178,6 +185,7 @@ public class MenuItem implements Cloneable, Copyable<MenuItem> {
      */
     public void setColors(@Nullable List<Color> colors) {
         this.colors = colors;
+        changed();
     }
 
     /**
@@ -205,6 +213,7 @@ public class MenuItem implements Cloneable, Copyable<MenuItem> {
      */
     public void setFrames(@Nullable List<MenuFrameItem> frames) {
         this.frames = frames;
+        changed();
     }
 
     /**
@@ -243,6 +252,7 @@ public class MenuItem implements Cloneable, Copyable<MenuItem> {
      */
     public void setAnimationType(@Nullable AnimationType animationType) {
         this.animationType = animationType;
+        changed();
     }
 
     /**
@@ -252,6 +262,7 @@ public class MenuItem implements Cloneable, Copyable<MenuItem> {
      */
     public void setAnimationRequestOptions(@Nullable AnimationRequestOptions animationRequestOptions) {
         this.animationRequestOptions = animationRequestOptions;
+        changed();
     }
 
     /**
@@ -310,11 +321,42 @@ public class MenuItem implements Cloneable, Copyable<MenuItem> {
      * Notifies all ViewerContext instances associated with this MenuItem that the context has changed.
      */
     public void notifyContext() {
+        changed();
         for (ViewerContext viewerContext : contexts) {
             viewerContext.notifyContext();
         }
     }
 
+    /**
+     * Gets the version of this menu item, which changes whenever something it renders is changed through
+     * this menu item. Changes made to the {@link #getItemProvider() item provider} in place do not count.
+     *
+     * @return The version of this menu item.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the cache of the rendered item stacks of this menu item.
+     *
+     * @return The render cache.
+     */
+    @ApiStatus.Internal
+    public @NonNull MenuItemRenderCache getRenderCache() {
+        return renderCache;
+    }
+
+    /**
+     * Marks this menu item as changed, so its cached renders are no longer used.
+     */
+    protected void changed() {
+        version++;
+        if (renderCache != null) {
+            renderCache.clear();
+        }
+    }
+
     public void initializeAnimation(Component baseName) {
         if (animationType == null) return;
         if (!hasAnimation() || !hasColors()) return;
@@ -376,6 +418,7 @@ public class MenuItem implements Cloneable, Copyable<MenuItem> {
             clone.animationInstance = null;
             clone.animationRequestOptions = this.animationRequestOptions;
             clone.slot = this.slot;
+            clone.renderCache = new MenuItemRenderCache();
 
             // copy custom data
             clone.customData = this.customData.clone();
@@ -408,7 +451,9 @@ public class MenuItem implements Cloneable, Copyable<MenuItem> {
     @Override
     public @NonNull MenuItem shallowCopy() {
         try {
-            return (MenuItem) super.clone();
+            MenuItem copy = (MenuItem) super.clone();
+            copy.renderCache = new MenuItemRenderCache();
+            return copy;
         } catch (CloneNotSupportedException e) {
             throw new AssertionError("Something went wrong while shallow copying MenuItem", e);
         }
@@ -0,0 +1,112 @@
+package com.georgev22.voidchest.api.menu.item.items;
+
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.utilities.message.Placeholder;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.ApiStatus;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The rendered {@link ItemStack}s of a single {@link MenuItem}, keyed by everything the render depends on.
+ * <p>
+ * Entries of older {@link MenuItem#getVersion() versions} are never looked up again; they are dropped
+ * when the item changes or when the cache grows past its limit.
+ */
+@ApiStatus.Internal
+public final class MenuItemRenderCache {
+
+    private static final int MAX_ENTRIES = 64;
+
+    private final ObjectMap<Key, ItemStack> renders = ObjectMaps.newConcurrentHashObjectMap();
+    private volatile long externalPlaceholdersVersion = -1;
+    private volatile boolean externalPlaceholders;
+
+    /**
+     * Retrieves a copy of the render for the given key.
+     *
+     * @param key The render key.
+     * @return A copy of the rendered item, or {@code null} if it was not rendered yet.
+     */
+    public @Nullable ItemStack get(@NonNull Key key) {
+        ItemStack render = renders.get(key);
+        return render == null ? null : render.clone();
+    }
+
+    /**
+     * Stores a copy of the render for the given key.
+     *
+     * @param key    The render key.
+     * @param render The rendered item.
+     */
+    public void put(@NonNull Key key, @NonNull ItemStack render) {
+        if (renders.size() >= MAX_ENTRIES) {
+            renders.keySet().removeIf(other -> other.version() != key.version());
+            if (renders.size() >= MAX_ENTRIES) {
+                renders.clear();
+            }
+        }
+        renders.put(key, render.clone());
+    }
+
+    /**
+     * Removes every render.
+     */
+    public void clear() {
+        renders.clear();
+        externalPlaceholdersVersion = -1;
+    }
+
+    /**
+     * Retrieves whether the item text of the given version contains PlaceholderAPI placeholders,
+     * whose values can change without the placeholder snapshot changing.
+     *
+     * @param version The item version.
+     * @return {@code true} or {@code false} if known, or {@code null} if not computed for that version yet.
+     */
+    public @Nullable Boolean hasExternalPlaceholders(long version) {
+        return externalPlaceholdersVersion == version ? externalPlaceholders : null;
+    }
+
+    /**
+     * Records whether the item text of the given version contains PlaceholderAPI placeholders.
+     *
+     * @param version              The item version.
+     * @param externalPlaceholders Whether the text contains PlaceholderAPI placeholders.
+     */
+    public void setExternalPlaceholders(long version, boolean externalPlaceholders) {
+        this.externalPlaceholders = externalPlaceholders;
+        this.externalPlaceholdersVersion = version;
+    }
+
+    /**
+     * Everything a render depends on.
+     * <p>
+     * Keys are equal when their placeholders are the same instance or have the same content, so two
+     * placeholder snapshots whose hashes collide never share a render.
+     *
+     * @param version         The {@link MenuItem#getVersion()} of the item.
+     * @param placeholders    The placeholders the item was rendered with, which must not be modified afterwards.
+     * @param placeholderHash The {@link Placeholder#contentHash()} of the placeholders.
+     * @param frameIndex      The frame index, or {@code 0} if the item has no frames.
+     * @param state           The state of a {@link StatefulMenuItem}, or {@code 0}.
+     */
+    public record Key(long version, @NonNull Placeholder placeholders, int placeholderHash, int frameIndex, int state) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other
+                    && version == other.version
+                    && placeholderHash == other.placeholderHash
+                    && frameIndex == other.frameIndex
+                    && state == other.state
+                    && placeholders.contentEquals(other.placeholders);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * (31 * Long.hashCode(version) + placeholderHash) + frameIndex) + state;
+        }
+    }
+}
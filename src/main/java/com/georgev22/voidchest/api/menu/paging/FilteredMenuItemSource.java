@@ -0,0 +1,63 @@
+package com.georgev22.voidchest.api.menu.paging;
+
+import com.georgev22.voidchest.api.menu.item.items.MenuItem;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * The items of another source that match a predicate, tested only as far as the read indices need.
+ * <p>
+ * The indices of matching items are remembered, so reading further continues the scan where it stopped.
+ */
+final class FilteredMenuItemSource implements MenuItemSource {
+
+    private final MenuItemSource source;
+    private final Predicate<MenuItem> predicate;
+    private int[] matches = new int[16];
+    private int matchCount;
+    private int scanned;
+
+    FilteredMenuItemSource(@NonNull MenuItemSource source, @NonNull Predicate<MenuItem> predicate) {
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public synchronized int size() {
+        scanUntil(Integer.MAX_VALUE);
+        return matchCount;
+    }
+
+    @Override
+    public synchronized @NonNull MenuItem get(int index) {
+        if (index < 0 || !scanUntil(index + 1)) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + matchCount + " matching items");
+        }
+        return source.get(matches[index]);
+    }
+
+    @Override
+    public synchronized boolean hasMoreThan(int count) {
+        return count < 0 || scanUntil(count + 1);
+    }
+
+    /**
+     * Scans the source until at least {@code count} matches are known or the source ends.
+     *
+     * @return {@code true} if there are at least {@code count} matches.
+     */
+    private boolean scanUntil(int count) {
+        while (matchCount < count && source.hasMoreThan(scanned)) {
+            int index = scanned++;
+            if (predicate.test(source.get(index))) {
+                if (matchCount == matches.length) {
+                    matches = Arrays.copyOf(matches, matches.length * 2);
+                }
+                matches[matchCount++] = index;
+            }
+        }
+        return matchCount >= count;
+    }
+}
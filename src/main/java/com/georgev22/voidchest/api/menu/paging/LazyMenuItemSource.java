@@ -0,0 +1,36 @@
+package com.georgev22.voidchest.api.menu.paging;
+
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.menu.item.items.MenuItem;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+/**
+ * A source whose items are created by index on first read and kept afterwards.
+ */
+final class LazyMenuItemSource implements MenuItemSource {
+
+    private final IntSupplier size;
+    private final IntFunction<@NonNull MenuItem> factory;
+    private final ObjectMap<Integer, MenuItem> created = ObjectMaps.newConcurrentHashObjectMap();
+
+    LazyMenuItemSource(@NonNull IntSupplier size, @NonNull IntFunction<@NonNull MenuItem> factory) {
+        this.size = size;
+        this.factory = factory;
+    }
+
+    @Override
+    public int size() {
+        return size.getAsInt();
+    }
+
+    @Override
+    public @NonNull MenuItem get(int index) {
+        Objects.checkIndex(index, size());
+        return created.computeIfAbsent(index, factory::apply);
+    }
+}
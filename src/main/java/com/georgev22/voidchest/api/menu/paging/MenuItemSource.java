@@ -0,0 +1,164 @@
+package com.georgev22.voidchest.api.menu.paging;
+
+import com.georgev22.voidchest.api.menu.item.items.MenuItem;
+import org.jetbrains.annotations.Contract;
+import org.jspecify.annotations.NonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.Predicate;
+
+/**
+ * An indexed source of menu items that a {@link com.georgev22.voidchest.api.menu.Menu} pages through.
+ * <p>
+ * Only the items of the requested page are looked up, so a source can stand for thousands of entries
+ * without creating a {@link MenuItem} for each of them. Filtering and sorting are expressed on the source
+ * itself through {@link #filter(Predicate)} and {@link #sorted(Comparator)}, which lets a source backed by
+ * an index or a query answer them without going through every item.
+ */
+public interface MenuItemSource {
+
+    /**
+     * An empty source.
+     */
+    @NonNull MenuItemSource EMPTY = of(List.of());
+
+    /**
+     * Gets the number of items in this source.
+     * <p>
+     * For lazily filtered sources this resolves every item, so prefer {@link #hasMoreThan(int)}
+     * when only a bound is needed.
+     *
+     * @return The number of items.
+     */
+    int size();
+
+    /**
+     * Gets the item at the specified index.
+     *
+     * @param index The index, between {@code 0} and {@link #size()}.
+     * @return The item at that index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @NonNull MenuItem get(int index);
+
+    /**
+     * Checks whether this source holds more than the given number of items.
+     *
+     * @param count The number of items.
+     * @return {@code true} if there are more than {@code count} items.
+     */
+    default boolean hasMoreThan(int count) {
+        return size() > count;
+    }
+
+    /**
+     * Gets the items between {@code start} and {@code start + count}, or fewer if the source ends first.
+     *
+     * @param start The index of the first item.
+     * @param count The maximum number of items.
+     * @return The items of that range, never {@code null}.
+     */
+    default @NonNull List<MenuItem> range(int start, int count) {
+        if (count <= 0 || start < 0 || !hasMoreThan(start)) {
+            return List.of();
+        }
+        List<MenuItem> range = new ArrayList<>(count);
+        for (int index = start; index < start + count && (index == start || hasMoreThan(index)); index++) {
+            range.add(get(index));
+        }
+        return List.copyOf(range);
+    }
+
+    /**
+     * Copies every item of this source into a list.
+     *
+     * @return A new list with all items.
+     */
+    default @NonNull List<MenuItem> toList() {
+        int size = size();
+        List<MenuItem> list = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            list.add(get(index));
+        }
+        return list;
+    }
+
+    /**
+     * Gets a view of the items of this source that match the predicate.
+     * <p>
+     * The default view tests items only as far as the requested indices need, and remembers the matches,
+     * so flipping to the next page continues where the previous page stopped.
+     *
+     * @param predicate The predicate items must match.
+     * @return The filtered view.
+     */
+    default @NonNull MenuItemSource filter(@NonNull Predicate<MenuItem> predicate) {
+        return new FilteredMenuItemSource(this, predicate);
+    }
+
+    /**
+     * Gets a view of the items of this source in the order of the comparator.
+     * <p>
+     * The default view sorts a copy of the items once, when it is first read.
+     *
+     * @param comparator The order of the items.
+     * @return The sorted view.
+     */
+    default @NonNull MenuItemSource sorted(@NonNull Comparator<? super MenuItem> comparator) {
+        return new SortedMenuItemSource(this, comparator);
+    }
+
+    /**
+     * Creates a source that reads through to the given list, so later changes to the list are visible.
+     *
+     * @param items The items.
+     * @return The source.
+     */
+    @Contract(pure = true)
+    static @NonNull MenuItemSource of(@NonNull List<MenuItem> items) {
+        return new MenuItemSource() {
+            @Override
+            public int size() {
+                return items.size();
+            }
+
+            @Override
+            public @NonNull MenuItem get(int index) {
+                return items.get(index);
+            }
+
+            @Override
+            public @NonNull List<MenuItem> range(int start, int count) {
+                int size = items.size();
+                if (count <= 0 || start < 0 || start >= size) {
+                    return List.of();
+                }
+                return List.copyOf(items.subList(start, Math.min(size, start + count)));
+            }
+
+            @Override
+            public @NonNull List<MenuItem> toList() {
+                return new ArrayList<>(items);
+            }
+        };
+    }
+
+    /**
+     * Creates a source whose items are only created once their index is first read.
+     * <p>
+     * Created items are kept, so the same index always yields the same {@link MenuItem}, which keeps
+     * its render cache and animation state across page flips.
+     *
+     * @param size    Supplies the number of items.
+     * @param factory Creates the item at an index.
+     * @return The source.
+     */
+    @Contract(pure = true)
+    static @NonNull MenuItemSource lazy(@NonNull IntSupplier size, @NonNull IntFunction<@NonNull MenuItem> factory) {
+        return new LazyMenuItemSource(size, factory);
+    }
+}
@@ -0,0 +1,59 @@
+package com.georgev22.voidchest.api.menu.paging;
+
+import com.georgev22.voidchest.api.menu.item.items.MenuItem;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The items of another source in the order of a comparator, sorted once when first read.
+ */
+final class SortedMenuItemSource implements MenuItemSource {
+
+    private final MenuItemSource source;
+    private final Comparator<? super MenuItem> comparator;
+    private volatile @Nullable MenuItemSource sorted;
+
+    SortedMenuItemSource(@NonNull MenuItemSource source, @NonNull Comparator<? super MenuItem> comparator) {
+        this.source = source;
+        this.comparator = comparator;
+    }
+
+    @Override
+    public int size() {
+        return sorted().size();
+    }
+
+    @Override
+    public @NonNull MenuItem get(int index) {
+        return sorted().get(index);
+    }
+
+    @Override
+    public boolean hasMoreThan(int count) {
+        return sorted().hasMoreThan(count);
+    }
+
+    @Override
+    public @NonNull List<MenuItem> range(int start, int count) {
+        return sorted().range(start, count);
+    }
+
+    private @NonNull MenuItemSource sorted() {
+        MenuItemSource sorted = this.sorted;
+        if (sorted == null) {
+            synchronized (this) {
+                sorted = this.sorted;
+                if (sorted == null) {
+                    List<MenuItem> items = source.toList();
+                    items.sort(comparator);
+                    sorted = MenuItemSource.of(items);
+                    this.sorted = sorted;
+                }
+            }
+        }
+        return sorted;
+    }
+}
@@ -0,0 +1,102 @@
+package com.georgev22.voidchest.api.menu.viewer;
+
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.scheduler.MinecraftScheduler;
+import com.georgev22.voidchest.api.scheduler.SchedulerTask;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.LongConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A single repeating task that drives the animations of every open menu.
+ * <p>
+ * Viewers register a callback that receives the current clock tick. The task only runs while at least
+ * one viewer is registered, and all viewers share the same tick, so frames advance in step across menus.
+ */
+public class MenuAnimationClock {
+
+    private static final Logger LOGGER = Logger.getLogger(MenuAnimationClock.class.getName());
+
+    /**
+     * The number of ticks between two frames of {@link com.georgev22.voidchest.api.menu.item.items.MenuItem#getFrames()}.
+     */
+    public static final int FRAME_PERIOD = 20;
+
+    private final ObjectMap<ViewerContext, LongConsumer> viewers = ObjectMaps.newConcurrentHashObjectMap();
+    private final MinecraftScheduler minecraftScheduler;
+    private @Nullable SchedulerTask task;
+    private volatile long tick;
+
+    /**
+     * Creates a new animation clock.
+     *
+     * @param minecraftScheduler The scheduler used to run the clock.
+     */
+    public MenuAnimationClock(@NonNull MinecraftScheduler minecraftScheduler) {
+        this.minecraftScheduler = minecraftScheduler;
+    }
+
+    /**
+     * Registers a viewer, starting the clock if it was idle.
+     *
+     * @param viewerContext The viewer context.
+     * @param onTick        Called every tick with the current clock tick.
+     */
+    public synchronized void register(@NonNull ViewerContext viewerContext, @NonNull LongConsumer onTick) {
+        viewers.put(viewerContext, onTick);
+        if (task == null) {
+            task = minecraftScheduler.createRepeatingTask(this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Unregisters a viewer, stopping the clock if no viewers remain.
+     *
+     * @param viewerContext The viewer context.
+     */
+    public synchronized void unregister(@NonNull ViewerContext viewerContext) {
+        viewers.remove(viewerContext);
+        if (viewers.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Retrieves the current clock tick.
+     *
+     * @return The number of ticks the clock has run.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Checks whether the given tick advances the frames of framed menu items.
+     *
+     * @param tick The clock tick.
+     * @return {@code true} if frames advance on that tick.
+     */
+    public static boolean isFrameTick(long tick) {
+        return tick % FRAME_PERIOD == 0;
+    }
+
+    private void tick() {
+        long current = ++tick;
+        viewers.forEach((viewerContext, onTick) -> {
+            if (viewerContext.isInvalidated()) {
+                unregister(viewerContext);
+                return;
+            }
+            try {
+                onTick.accept(current);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Failed to animate the menu of " + viewerContext.getPlayerContext().getName(), e);
+            }
+        });
+    }
+}
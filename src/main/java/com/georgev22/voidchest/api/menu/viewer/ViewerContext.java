@@ -35,6 +35,7 @@ public class ViewerContext implements InventoryHolder {
     private boolean isInvalidated = false;
     private final AtomicLong updateVersion = new AtomicLong();
     private Supplier<Placeholder> dynamicPlaceholderSupplier;
+    private volatile @Nullable PlaceholderSnapshot placeholderSnapshot;
     private final CustomData customData = new CustomData();
 
     public ViewerContext(@NonNull Menu menu, Player playerContext) {
@@ -165,6 +166,48 @@ public class ViewerContext implements InventoryHolder {
      */
     public void notifyContext() {
         isMenuDirty = true;
+        placeholderSnapshot = null;
+    }
+
+    /**
+     * Retrieves the placeholders of the menu for this viewer, with the player as target.
+     * <p>
+     * The placeholders are merged through {@link Menu#getPlaceholders(ViewerContext)} once and shared by every
+     * slot and line rendered until the snapshot is invalidated, which happens when the menu is marked dirty
+     * with {@link #notifyContext()}, when an update starts with {@link #beginUpdate()} and on
+     * {@link #invalidatePlaceholderSnapshot()}. The snapshot must not be modified.
+     *
+     * @return The placeholder snapshot.
+     */
+    public @NonNull Placeholder getPlaceholderSnapshot() {
+        return snapshot().placeholder();
+    }
+
+    /**
+     * Retrieves the {@link Placeholder#contentHash()} of the placeholder snapshot, computed once per snapshot.
+     *
+     * @return The hash of the placeholder snapshot.
+     */
+    public int getPlaceholderSnapshotHash() {
+        return snapshot().hash();
+    }
+
+    private @NonNull PlaceholderSnapshot snapshot() {
+        PlaceholderSnapshot snapshot = placeholderSnapshot;
+        if (snapshot == null) {
+            Placeholder placeholder = menu.getPlaceholders(this).setTarget(playerContext);
+            snapshot = new PlaceholderSnapshot(placeholder, placeholder.contentHash());
+            placeholderSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Discards the placeholder snapshot, so the next render pass merges the placeholders again.
+     * Call at the start of a render pass whose dynamic placeholders may have changed.
+     */
+    public void invalidatePlaceholderSnapshot() {
+        placeholderSnapshot = null;
     }
 
     /**
@@ -178,6 +221,7 @@ public class ViewerContext implements InventoryHolder {
      */
     public void setDynamicPlaceholderSupplier(Supplier<Placeholder> supplier) {
         this.dynamicPlaceholderSupplier = supplier;
+        this.placeholderSnapshot = null;
     }
 
     /**
@@ -250,6 +294,7 @@ public class ViewerContext implements InventoryHolder {
      * @return the new update version for this cycle
      */
     public long beginUpdate() {
+        placeholderSnapshot = null;
         return updateVersion.incrementAndGet();
     }
 
@@ -276,4 +321,7 @@ public class ViewerContext implements InventoryHolder {
     public @NonNull CustomData getCustomData() {
         return customData;
     }
+
+    private record PlaceholderSnapshot(@NonNull Placeholder placeholder, int hash) {
+    }
 }
@@ -1,12 +1,13 @@
 package com.georgev22.voidchest.api.menu.viewer;
 
 import com.georgev22.voidchest.api.VoidChestAPI;
+import com.georgev22.voidchest.api.animation.engine.AnimationInstance;
+import com.georgev22.voidchest.api.datastructures.maps.ConcurrentHashObjectMap;
 import com.georgev22.voidchest.api.datastructures.maps.HashObjectMap;
 import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
 import com.georgev22.voidchest.api.menu.Menu;
 import com.georgev22.voidchest.api.menu.item.builder.ItemBuilder;
 import com.georgev22.voidchest.api.menu.item.items.MenuItem;
-import com.georgev22.voidchest.api.scheduler.SchedulerTask;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -19,6 +20,7 @@ import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -33,19 +35,69 @@ public class ViewerContextListener implements Listener {
     /**
      * Stores all per-player state in a single object for clarity.
      */
-    private final ObjectMap<Player, ViewerState> viewerStates = new HashObjectMap<>();
+    private final ObjectMap<Player, ViewerState> viewerStates = new ConcurrentHashObjectMap<>();
+
+    private final MenuAnimationClock animationClock;
+
+    /**
+     * Creates a listener whose animations are driven by a new {@link MenuAnimationClock}.
+     */
+    public ViewerContextListener() {
+        this(new MenuAnimationClock(VoidChestAPI.getInstance().minecraftScheduler()));
+    }
+
+    /**
+     * Creates a listener whose animations are driven by the given clock.
+     *
+     * @param animationClock The shared animation clock.
+     */
+    public ViewerContextListener(@NonNull MenuAnimationClock animationClock) {
+        this.animationClock = animationClock;
+    }
 
     /**
      * Encapsulates all per-player state for a menu viewer.
      */
     private static class ViewerState {
         final ObjectMap<MenuItem, Integer> frameIndexes = new HashObjectMap<>();
-        int frameTick = 0;
-        SchedulerTask animatedTask;
         CompletableFuture<Void> updateQueue = CompletableFuture.completedFuture(null);
         boolean updateRunning = false;
-        ObjectMap<Integer, ItemStack> lastAppliedItems = new HashObjectMap<>();
+        boolean fullPassPending = true;
+        /**
+         * Whether a frame tick was skipped because an update was still running, so the next pass advances frames.
+         */
+        boolean framePending = false;
         long updateVersion = 0L;
+        /**
+         * The content hash of the item last sent to each slot, or {@link #EMPTY_SLOT}.
+         */
+        long @Nullable [] lastHashes;
+        /**
+         * The {@link Menu.RenderedItem#identity() identity} of the item last sent to each slot, or {@code null}.
+         */
+        Object @Nullable [] lastIdentities;
+
+        long @NonNull [] lastHashes(int size) {
+            long[] hashes = lastHashes;
+            if (hashes == null || hashes.length != size) {
+                hashes = new long[size];
+                Arrays.fill(hashes, EMPTY_SLOT);
+                lastHashes = hashes;
+                lastIdentities = new Object[size];
+            }
+            return hashes;
+        }
+    }
+
+    /**
+     * Marks a slot this listener has not sent an item to. Content hashes are ints, so no hash can equal it.
+     */
+    private static final long EMPTY_SLOT = Long.MIN_VALUE;
+
+    /**
+     * A built item waiting to be sent to its slot.
+     */
+    private record SlotUpdate(int slot, Menu.@NonNull RenderedItem rendered) {
     }
 
     @EventHandler
@@ -56,39 +108,55 @@ public class ViewerContextListener implements Listener {
         Player player = context.getPlayerContext();
         ViewerState state = viewerStates.computeIfAbsent(player, p -> new ViewerState());
 
-        state.animatedTask = VoidChestAPI.getInstance().minecraftScheduler().createRepeatingTask(
-                () -> {
-                    boolean updateFrames = state.frameTick >= 20;
-                    enqueueMenuUpdate(context, state, updateFrames);
-                },
-                1L,
-                1L
-        );
+        animationClock.register(context, tick -> enqueueMenuUpdate(context, state, tick));
     }
 
     /**
      * Enqueues a menu update for a player asynchronously, builds ItemStacks off-main-thread,
      * and applies changes on the main thread while preventing flickering.
+     * <p>
+     * Every {@link MenuAnimationClock#FRAME_PERIOD} ticks, frames advance and every item is rebuilt, which also
+     * refreshes placeholders. On the ticks in between, only items with a running {@link AnimationInstance}
+     * are rebuilt, and nothing is scheduled if the menu has none. A frame tick that arrives while an update is
+     * still running is not lost: the next update that starts advances the frames instead.
      *
-     * @param context      The viewer context.
-     * @param state        The player's encapsulated state.
-     * @param updateFrames Whether to update animated frames.
+     * @param context The viewer context.
+     * @param state   The player's encapsulated state.
+     * @param tick    The current animation clock tick.
      */
     private void enqueueMenuUpdate(@NonNull ViewerContext context,
                                    @NonNull ViewerState state,
-                                   boolean updateFrames) {
-        if (context.isUpdating()) return;
-        if (state.updateRunning) return;
+                                   long tick) {
+        boolean frameTick = MenuAnimationClock.isFrameTick(tick);
+        if (context.isUpdating() || state.updateRunning) {
+            if (frameTick) state.framePending = true;
+            return;
+        }
+
+        boolean updateFrames = frameTick || state.framePending;
+        boolean fullPass = updateFrames || state.fullPassPending;
+
+        List<MenuItem> menuItems = context.getCachedMenuItems();
+        if (!fullPass) {
+            menuItems = menuItems.stream().filter(ViewerContextListener::isAnimated).toList();
+            if (menuItems.isEmpty()) return;
+        }
+        List<MenuItem> itemsToBuild = menuItems;
 
         state.updateRunning = true;
+        state.fullPassPending = false;
+        state.framePending = false;
         state.updateVersion++;
         long thisVersion = state.updateVersion;
 
         state.updateQueue = state.updateQueue.thenRunAsync(() -> {
-            ObjectMap<MenuItem, ItemStack> updates = new HashObjectMap<>();
+            if (fullPass) {
+                context.invalidatePlaceholderSnapshot();
+            }
+            List<SlotUpdate> updates = new ArrayList<>(itemsToBuild.size());
             boolean dirtyMenu = false;
 
-            for (MenuItem menuItem : context.getCachedMenuItems()) {
+            for (MenuItem menuItem : itemsToBuild) {
                 int slot = menuItem.getSlot();
                 if (slot == -1) {
                     dirtyMenu = true;
@@ -96,8 +164,8 @@ public class ViewerContextListener implements Listener {
                 }
 
                 int frameIndex = state.frameIndexes.getOrDefault(menuItem, 0);
-                ItemStack finalItemStack = Menu.buildMenuItem(context, menuItem, frameIndex);
-                updates.put(menuItem, finalItemStack);
+                Menu.RenderedItem rendered = Menu.buildRenderedMenuItem(context, menuItem, frameIndex);
+                updates.add(new SlotUpdate(slot, rendered));
 
                 if (menuItem.hasFrames() && updateFrames) {
                     int nextIndex = frameIndex + 1;
@@ -118,44 +186,51 @@ public class ViewerContextListener implements Listener {
 
                 if (finalDirtyMenu) {
                     context.notifyContext();
+                    state.fullPassPending = true;
                     state.updateRunning = false;
                     return;
                 }
 
-                // Apply only changed items (huh?)
-                for (ObjectMap.Entry<MenuItem, ItemStack> entry : updates.entrySet()) {
-                    MenuItem menuItem = entry.getKey();
-                    ItemStack newItem = entry.getValue();
-                    int slot = menuItem.getSlot();
+                Inventory inventory = context.getInventory();
+                long[] lastHashes = state.lastHashes(inventory.getSize());
+                Object[] lastIdentities = Objects.requireNonNull(state.lastIdentities);
+                boolean[] present = fullPass ? new boolean[lastHashes.length] : null;
 
-                    ItemStack last = state.lastAppliedItems.get(slot);
-                    if (!areItemStacksEqual(last, newItem)) {
-                        context.getInventory().setItem(slot, newItem);
-                        state.lastAppliedItems.put(slot, newItem);
+                // Apply only changed items
+                for (SlotUpdate update : updates) {
+                    int slot = update.slot();
+                    if (slot < 0 || slot >= lastHashes.length) continue;
+                    if (present != null) present[slot] = true;
+
+                    Menu.RenderedItem rendered = update.rendered();
+                    if (!rendered.sameContent(lastHashes[slot], lastIdentities[slot])) {
+                        inventory.setItem(slot, rendered.itemStack());
+                        lastHashes[slot] = rendered.contentHash();
+                        lastIdentities[slot] = rendered.identity();
                     }
                 }
 
-                // Remove slots that are no longer present (either it works or it doesn't... I don't know, care, or trust my code)
-                List<Integer> slotsToRemove = new ArrayList<>();
-                for (Integer slot : state.lastAppliedItems.keySet()) {
-                    boolean stillPresent = updates.keySet().stream().anyMatch(i -> i.getSlot() == slot);
-                    if (!stillPresent) {
-                        context.getInventory().setItem(slot, null);
-                        slotsToRemove.add(slot);
+                // Remove slots that are no longer present, which only a full pass can tell
+                if (present != null) {
+                    for (int slot = 0; slot < lastHashes.length; slot++) {
+                        if (!present[slot] && lastHashes[slot] != EMPTY_SLOT) {
+                            inventory.setItem(slot, null);
+                            lastHashes[slot] = EMPTY_SLOT;
+                            lastIdentities[slot] = null;
+                        }
                     }
                 }
-                slotsToRemove.forEach(state.lastAppliedItems::remove);
 
-                state.frameTick = updateFrames ? 0 : state.frameTick + 1;
                 state.updateRunning = false;
             });
         });
     }
 
-    private boolean areItemStacksEqual(@Nullable ItemStack a, @Nullable ItemStack b) {
-        if (a == null && b == null) return true;
-        if (a == null || b == null) return false;
-        return a.isSimilar(b);
+    /**
+     * Checks whether the item is rebuilt on every tick for its color animation.
+     */
+    private static boolean isAnimated(@NonNull MenuItem menuItem) {
+        return menuItem.hasAnimation() && menuItem.hasColors();
     }
 
     @EventHandler
@@ -215,7 +290,7 @@ public class ViewerContextListener implements Listener {
         menu.removeViewer(viewerContext);
 
         Player player = viewerContext.getPlayerContext();
-        ViewerState state = viewerStates.remove(player);
-        if (state != null && state.animatedTask != null) state.animatedTask.cancel();
+        viewerStates.remove(player);
+        animationClock.unregister(viewerContext);
     }
 }
@@ -0,0 +1,251 @@
+package com.georgev22.voidchest.api.sell;
+
+import com.georgev22.voidchest.api.config.OptionsUtil;
+import com.georgev22.voidchest.api.config.VoidChestOptionsUtil;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.storage.model.AbstractVoidChest;
+import com.georgev22.voidchest.api.task.HashedTimingWheel;
+import org.bukkit.Bukkit;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Plans when each void chest is swept for selling, based on its activity and on server load.
+ * <p>
+ * Every tracked void chest starts at its configured {@link VoidChestOptionsUtil#OPTIONS_SELL_INTERVAL}.
+ * Sweeps that sell nothing double the interval, up to {@link OptionsUtil#SELL_ADAPTIVE_MAX_BACKOFF} times
+ * the configured one. Void chests that keep receiving items, reported through {@link #recordActivity(AbstractVoidChest)},
+ * return to the configured interval and are then halved down to {@link OptionsUtil#SELL_ADAPTIVE_MIN_INTERVAL}.
+ * While the average tick time is above {@link OptionsUtil#SELL_ADAPTIVE_MSPT_THRESHOLD}, every interval is
+ * widened proportionally, up to {@link OptionsUtil#SELL_ADAPTIVE_MAX_LOAD_FACTOR}.
+ * <p>
+ * Each void chest owns a single timeout on a {@link HashedTimingWheel}; when it fires, the void chest is handed
+ * to the sell consumer, typically {@link RegionSellScheduler#submit(AbstractVoidChest)}. The current cadence and
+ * the reason for it are available through {@link #cadence(UUID)}.
+ */
+public class AdaptiveSellScheduler {
+
+    private static final long LOAD_SAMPLE_MILLIS = 1000L;
+
+    private final ObjectMap<UUID, Entry> entries = ObjectMaps.newConcurrentHashObjectMap();
+    private final HashedTimingWheel wheel;
+    private final Consumer<AbstractVoidChest> sellConsumer;
+    private final DoubleSupplier msptSupplier;
+    private volatile double loadFactor = 1.0D;
+    private volatile long loadSampledAt;
+
+    /**
+     * Creates a new adaptive sell scheduler that reads the server tick time from Bukkit.
+     *
+     * @param executor     The executor that hands due void chests to the sell consumer.
+     * @param sellConsumer The consumer that sells a due void chest.
+     */
+    public AdaptiveSellScheduler(@NonNull Executor executor, @NonNull Consumer<AbstractVoidChest> sellConsumer) {
+        this(new HashedTimingWheel("VoidChest-AdaptiveSell", 50L, TimeUnit.MILLISECONDS, executor), sellConsumer, AdaptiveSellScheduler::averageTickTime);
+    }
+
+    /**
+     * Creates a new adaptive sell scheduler.
+     *
+     * @param wheel        The timing wheel used to plan sweeps.
+     * @param sellConsumer The consumer that sells a due void chest.
+     * @param msptSupplier The supplier of the current average tick time in milliseconds.
+     */
+    public AdaptiveSellScheduler(@NonNull HashedTimingWheel wheel, @NonNull Consumer<AbstractVoidChest> sellConsumer, @NonNull DoubleSupplier msptSupplier) {
+        this.wheel = wheel;
+        this.sellConsumer = sellConsumer;
+        this.msptSupplier = msptSupplier;
+    }
+
+    /**
+     * Starts planning sweeps for the given void chest. The first sweep happens after its configured interval.
+     *
+     * @param voidChest The void chest to track.
+     */
+    public void track(@NonNull AbstractVoidChest voidChest) {
+        Entry entry = new Entry(voidChest);
+        Entry previous = entries.put(voidChest.getUniqueId(), entry);
+        if (previous != null) {
+            previous.close();
+        }
+        entry.schedule();
+    }
+
+    /**
+     * Stops planning sweeps for the void chest with the given id.
+     *
+     * @param voidChestId The void chest UUID.
+     */
+    public void untrack(@NonNull UUID voidChestId) {
+        Entry entry = entries.remove(voidChestId);
+        if (entry != null) {
+            entry.close();
+        }
+    }
+
+    /**
+     * Reports the outcome of a sweep, so the next one can be planned.
+     *
+     * @param voidChest The void chest that was swept.
+     * @param soldItems True if the sweep sold anything, false if the inventory had nothing to sell.
+     */
+    public void recordSell(@NonNull AbstractVoidChest voidChest, boolean soldItems) {
+        Entry entry = entries.get(voidChest.getUniqueId());
+        if (entry != null) {
+            entry.recordSell(soldItems);
+        }
+    }
+
+    /**
+     * Reports that the void chest received items, so it should be swept sooner.
+     *
+     * @param voidChest The void chest that received items.
+     */
+    public void recordActivity(@NonNull AbstractVoidChest voidChest) {
+        Entry entry = entries.get(voidChest.getUniqueId());
+        if (entry != null) {
+            entry.recordActivity();
+        }
+    }
+
+    /**
+     * Retrieves the current cadence of the void chest with the given id.
+     *
+     * @param voidChestId The void chest UUID.
+     * @return The current cadence, or an empty optional if the void chest is not tracked.
+     */
+    public Optional<SellCadence> cadence(@NonNull UUID voidChestId) {
+        Entry entry = entries.get(voidChestId);
+        return entry == null ? Optional.empty() : Optional.of(entry.cadence());
+    }
+
+    /**
+     * Retrieves the factor all intervals are currently widened by because of server load.
+     *
+     * @return The load factor, {@code 1.0} while the tick time is below the threshold.
+     */
+    public double loadFactor() {
+        long now = System.currentTimeMillis();
+        if (now - loadSampledAt >= LOAD_SAMPLE_MILLIS) {
+            loadSampledAt = now;
+            double threshold = OptionsUtil.SELL_ADAPTIVE_MSPT_THRESHOLD.getDoubleValue();
+            double mspt = msptSupplier.getAsDouble();
+            loadFactor = threshold <= 0 || mspt <= threshold
+                    ? 1.0D
+                    : Math.min(mspt / threshold, OptionsUtil.SELL_ADAPTIVE_MAX_LOAD_FACTOR.getIntValue());
+        }
+        return loadFactor;
+    }
+
+    /**
+     * Stops planning all sweeps and stops the underlying timing wheel.
+     */
+    public void shutdown() {
+        entries.values().forEach(Entry::close);
+        entries.clear();
+        wheel.stop();
+    }
+
+    private static double averageTickTime() {
+        try {
+            return Bukkit.getAverageTickTime();
+        } catch (UnsupportedOperationException ignored) {
+            return 0.0D;
+        }
+    }
+
+    private final class Entry {
+
+        private final AbstractVoidChest voidChest;
+        private final long baseIntervalMillis;
+        private long intervalMillis;
+        private SellCadence.Reason reason = SellCadence.Reason.BASE;
+        private long nextSellAt;
+        private long lastSpeedUpAt;
+        private @Nullable HashedTimingWheel.Timeout timeout;
+        private boolean closed;
+
+        private Entry(AbstractVoidChest voidChest) {
+            this.voidChest = voidChest;
+            this.baseIntervalMillis = TimeUnit.SECONDS.toMillis(Math.max(1, VoidChestOptionsUtil.OPTIONS_SELL_INTERVAL.get(voidChest)));
+            this.intervalMillis = baseIntervalMillis;
+        }
+
+        private synchronized void recordSell(boolean soldItems) {
+            if (!OptionsUtil.SELL_ADAPTIVE.getBooleanValue()) {
+                intervalMillis = baseIntervalMillis;
+                reason = SellCadence.Reason.BASE;
+            } else if (soldItems) {
+                if (intervalMillis > baseIntervalMillis) {
+                    intervalMillis = baseIntervalMillis;
+                    reason = SellCadence.Reason.BASE;
+                }
+            } else {
+                long maxInterval = baseIntervalMillis * Math.max(1, OptionsUtil.SELL_ADAPTIVE_MAX_BACKOFF.getIntValue());
+                intervalMillis = Math.min(intervalMillis * 2, maxInterval);
+                reason = intervalMillis > baseIntervalMillis ? SellCadence.Reason.IDLE_BACKOFF : SellCadence.Reason.BASE;
+            }
+            schedule();
+        }
+
+        private synchronized void recordActivity() {
+            if (!OptionsUtil.SELL_ADAPTIVE.getBooleanValue()) return;
+            long now = System.currentTimeMillis();
+            if (now - lastSpeedUpAt < intervalMillis) return;
+            lastSpeedUpAt = now;
+            long minInterval = TimeUnit.SECONDS.toMillis(Math.max(1, OptionsUtil.SELL_ADAPTIVE_MIN_INTERVAL.getIntValue()));
+            long shortened = intervalMillis > baseIntervalMillis ? baseIntervalMillis : Math.max(minInterval, intervalMillis / 2);
+            if (shortened >= intervalMillis) return;
+            intervalMillis = shortened;
+            reason = intervalMillis < baseIntervalMillis ? SellCadence.Reason.ACTIVE : SellCadence.Reason.BASE;
+            if (now + effectiveInterval() < nextSellAt) {
+                schedule();
+            }
+        }
+
+        private long effectiveInterval() {
+            return (long) (intervalMillis * loadFactor());
+        }
+
+        private synchronized void schedule() {
+            if (closed || !wheel.isRunning()) return;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+            long delay = effectiveInterval();
+            nextSellAt = System.currentTimeMillis() + delay;
+            timeout = wheel.schedule(this::fire, delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void fire() {
+            synchronized (this) {
+                if (closed || timeout == null || !timeout.isExpired()) return;
+                // Keep sweeping even if the sale is never reported back; recordSell replaces this timeout.
+                schedule();
+            }
+            sellConsumer.accept(voidChest);
+        }
+
+        private synchronized SellCadence cadence() {
+            double factor = loadFactor();
+            SellCadence.Reason current = factor > 1.0D ? SellCadence.Reason.SERVER_LOAD : reason;
+            return new SellCadence(baseIntervalMillis, intervalMillis, (long) (intervalMillis * factor), factor, nextSellAt, current);
+        }
+
+        private synchronized void close() {
+            closed = true;
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+        }
+    }
+}
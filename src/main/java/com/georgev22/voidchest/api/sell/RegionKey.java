@@ -0,0 +1,25 @@
+package com.georgev22.voidchest.api.sell;
+
+import com.georgev22.voidchest.api.utilities.VoidChunk;
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Identifies a square group of chunks that is owned by a single region thread.
+ *
+ * @param worldName the name of the world
+ * @param regionX   the region X coordinate, {@code chunkX >> shift}
+ * @param regionZ   the region Z coordinate, {@code chunkZ >> shift}
+ */
+public record RegionKey(String worldName, int regionX, int regionZ) {
+
+    /**
+     * Creates the region key that contains the given chunk.
+     *
+     * @param chunk the chunk
+     * @param shift the region size as a power of two in chunks
+     * @return the region key
+     */
+    public static @NonNull RegionKey of(@NonNull VoidChunk chunk, int shift) {
+        return new RegionKey(chunk.getWorldName(), chunk.getX() >> shift, chunk.getZ() >> shift);
+    }
+}
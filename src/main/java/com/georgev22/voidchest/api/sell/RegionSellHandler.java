@@ -0,0 +1,50 @@
+package com.georgev22.voidchest.api.sell;
+
+import com.georgev22.voidchest.api.storage.model.AbstractVoidChest;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Performs the three phases of a void chest sale for a {@link RegionSellScheduler}.
+ * <p>
+ * {@link #snapshot(AbstractVoidChest)} and {@link #apply(AbstractVoidChest, Object)} run on the thread
+ * that owns the void chest region, batched together with the other void chests of the same region.
+ * {@link #price(AbstractVoidChest, Object)} runs on a worker thread and must not touch the world.
+ *
+ * @param <S> the type of the inventory snapshot
+ * @param <R> the type of the priced sale result
+ */
+public interface RegionSellHandler<S, R> {
+
+    /**
+     * Captures the state needed to price the sale, usually a copy of the inventory contents.
+     * <p>
+     * Runs on the region thread.
+     *
+     * @param voidChest The void chest to sell from.
+     * @return The snapshot, or {@code null} to skip this void chest.
+     */
+    @Nullable S snapshot(@NonNull AbstractVoidChest voidChest);
+
+    /**
+     * Prices and aggregates the snapshot.
+     * <p>
+     * Runs on a worker thread.
+     *
+     * @param voidChest The void chest to sell from.
+     * @param snapshot  The snapshot captured by {@link #snapshot(AbstractVoidChest)}.
+     * @return The sale result, or {@code null} if there is nothing to apply.
+     */
+    @Nullable R price(@NonNull AbstractVoidChest voidChest, @NonNull S snapshot);
+
+    /**
+     * Applies the sale result, removing the sold items and paying out the money.
+     * <p>
+     * Runs on the region thread. Implementations must re-validate the inventory,
+     * because it may have changed since the snapshot was taken.
+     *
+     * @param voidChest The void chest to sell from.
+     * @param result    The result returned by {@link #price(AbstractVoidChest, Object)}.
+     */
+    void apply(@NonNull AbstractVoidChest voidChest, @NonNull R result);
+}
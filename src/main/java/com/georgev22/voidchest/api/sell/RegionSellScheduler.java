@@ -0,0 +1,279 @@
+package com.georgev22.voidchest.api.sell;
+
+import com.georgev22.voidchest.api.config.OptionsUtil;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.scheduler.MinecraftScheduler;
+import com.georgev22.voidchest.api.scheduler.SchedulerTask;
+import com.georgev22.voidchest.api.storage.model.AbstractVoidChest;
+import com.georgev22.voidchest.api.utilities.VoidChunk;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Schedules void chest sales grouped by the region that owns the void chest.
+ * <p>
+ * Instead of hopping threads once per void chest, void chests submitted through {@link #submit(AbstractVoidChest)}
+ * are queued per {@link RegionKey}. Once per tick, each region with pending work receives a single
+ * {@link MinecraftScheduler#createTaskForLocation(Runnable, Location)} task that:
+ * <ol>
+ *     <li>applies all sale results that were priced since the last tick, and</li>
+ *     <li>captures snapshots of newly submitted void chests,</li>
+ * </ol>
+ * both within the per-region budget configured by {@link OptionsUtil#SELL_REGION_BUDGET}.
+ * Snapshots of a region are then priced together on the worker executor.
+ * Work that does not fit the budget is carried over to the next tick.
+ * <p>
+ * On Folia, regions are processed in parallel by their owning region threads, so sell throughput
+ * grows with the number of cores. A batch runs on the thread of its anchor chunk, so every void chest of a
+ * region must belong to that thread: {@link OptionsUtil#SELL_REGION_SHIFT} must not be larger than Folia's
+ * region section shift ({@code grid-exponent}, 4 by default).
+ * <p>
+ * Batches are only dispatched to a loaded chunk of the region. If none of the chunks of the queued void chests
+ * is loaded, the queued work of the region is dropped and the void chests can be submitted again.
+ *
+ * @param <S> the type of the inventory snapshot
+ * @param <R> the type of the priced sale result
+ */
+public class RegionSellScheduler<S, R> {
+
+    private static final Logger LOGGER = Logger.getLogger(RegionSellScheduler.class.getName());
+    private static final long STALE_BATCH_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final ObjectMap<RegionKey, RegionQueue> regions = ObjectMaps.newConcurrentHashObjectMap();
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    private final MinecraftScheduler minecraftScheduler;
+    private final Executor workers;
+    private final RegionSellHandler<S, R> handler;
+    private @Nullable SchedulerTask tickTask;
+
+    /**
+     * Creates a new region sell scheduler.
+     *
+     * @param minecraftScheduler The scheduler used to run region batches.
+     * @param workers            The executor used to price snapshots.
+     * @param handler            The handler that performs the sale phases.
+     */
+    public RegionSellScheduler(@NonNull MinecraftScheduler minecraftScheduler, @NonNull Executor workers, @NonNull RegionSellHandler<S, R> handler) {
+        this.minecraftScheduler = minecraftScheduler;
+        this.workers = workers;
+        this.handler = handler;
+    }
+
+    /**
+     * Queues a void chest for selling.
+     * <p>
+     * A void chest that is already queued or being priced is not queued twice.
+     *
+     * @param voidChest The void chest to sell from.
+     * @return True if the void chest was queued, false if it was already in flight.
+     */
+    public boolean submit(@NonNull AbstractVoidChest voidChest) {
+        if (!inFlight.add(voidChest.getUniqueId())) {
+            return false;
+        }
+        VoidChunk chunk = voidChest.blockLocation().getChunk();
+        RegionQueue region = regions.computeIfAbsent(RegionKey.of(chunk, OptionsUtil.SELL_REGION_SHIFT.getIntValue()), key -> new RegionQueue(key, chunk));
+        region.anchor = chunk;
+        region.snapshots.add(voidChest);
+        return true;
+    }
+
+    /**
+     * Starts dispatching region batches once per tick.
+     */
+    public synchronized void start() {
+        if (tickTask != null) return;
+        tickTask = minecraftScheduler.createAsyncRepeatingTask(this::tick, 1L, 1L);
+    }
+
+    /**
+     * Stops dispatching region batches. Queued void chests are discarded.
+     */
+    public synchronized void stop() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        regions.clear();
+        inFlight.clear();
+    }
+
+    /**
+     * Retrieves the number of void chests that are queued or being priced.
+     *
+     * @return The number of void chests in flight.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * Dispatches one batch task to every region that has pending work and no batch running.
+     * <p>
+     * This is called once per tick after {@link #start()}, but may also be invoked manually.
+     */
+    public void tick() {
+        for (RegionQueue region : regions.values()) {
+            if (!region.hasWork()) continue;
+            long now = System.nanoTime();
+            if (region.running.get() && now - region.dispatchedAt > STALE_BATCH_NANOS) {
+                // The region task was dropped, e.g. because its chunk unloaded before it ran.
+                region.running.set(false);
+            }
+            if (!region.running.compareAndSet(false, true)) continue;
+            region.dispatchedAt = now;
+
+            World world = Bukkit.getWorld(region.key.worldName());
+            VoidChunk anchor = world == null ? null : loadedAnchor(region, world);
+            if (anchor == null) {
+                // Nothing of the region is loaded, so no region thread can run the batch.
+                release(region);
+                region.running.set(false);
+                continue;
+            }
+            // Block coordinates only, so no chunk is looked up or loaded from this thread.
+            Location location = new Location(world, anchor.getX() << 4, 0, anchor.getZ() << 4);
+            try {
+                minecraftScheduler.createTaskForLocation(() -> runRegion(region), location);
+            } catch (Throwable throwable) {
+                region.running.set(false);
+                LOGGER.log(Level.WARNING, "Failed to schedule sell batch for region " + region.key, throwable);
+            }
+        }
+    }
+
+    /**
+     * Finds a loaded chunk of the region to run its batch on, preferring the current anchor.
+     */
+    private @Nullable VoidChunk loadedAnchor(@NonNull RegionQueue region, @NonNull World world) {
+        VoidChunk anchor = region.anchor;
+        if (world.isChunkLoaded(anchor.getX(), anchor.getZ())) {
+            return anchor;
+        }
+        for (AbstractVoidChest voidChest : region.snapshots) {
+            VoidChunk chunk = voidChest.blockLocation().getChunk();
+            if (world.isChunkLoaded(chunk.getX(), chunk.getZ())) {
+                region.anchor = chunk;
+                return chunk;
+            }
+        }
+        for (Priced<R> priced : region.results) {
+            VoidChunk chunk = priced.voidChest().blockLocation().getChunk();
+            if (world.isChunkLoaded(chunk.getX(), chunk.getZ())) {
+                region.anchor = chunk;
+                return chunk;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drops the queued work of a region and releases its void chests, so they can be submitted again.
+     */
+    private void release(@NonNull RegionQueue region) {
+        AbstractVoidChest voidChest;
+        while ((voidChest = region.snapshots.poll()) != null) {
+            inFlight.remove(voidChest.getUniqueId());
+        }
+        Priced<R> priced;
+        while ((priced = region.results.poll()) != null) {
+            inFlight.remove(priced.voidChest().getUniqueId());
+        }
+    }
+
+    private void runRegion(@NonNull RegionQueue region) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(OptionsUtil.SELL_REGION_BUDGET.getIntValue());
+        try {
+            Priced<R> priced;
+            while (System.nanoTime() < deadline && (priced = region.results.poll()) != null) {
+                try {
+                    handler.apply(priced.voidChest(), priced.result());
+                } catch (Throwable throwable) {
+                    LOGGER.log(Level.WARNING, "Failed to apply sale for void chest " + priced.voidChest().getUniqueId(), throwable);
+                } finally {
+                    inFlight.remove(priced.voidChest().getUniqueId());
+                }
+            }
+
+            List<AbstractVoidChest> voidChests = new ArrayList<>();
+            List<S> snapshots = new ArrayList<>();
+            AbstractVoidChest voidChest;
+            while (System.nanoTime() < deadline && (voidChest = region.snapshots.poll()) != null) {
+                S snapshot = null;
+                try {
+                    snapshot = handler.snapshot(voidChest);
+                } catch (Throwable throwable) {
+                    LOGGER.log(Level.WARNING, "Failed to snapshot void chest " + voidChest.getUniqueId(), throwable);
+                }
+                if (snapshot == null) {
+                    inFlight.remove(voidChest.getUniqueId());
+                    continue;
+                }
+                voidChests.add(voidChest);
+                snapshots.add(snapshot);
+            }
+
+            if (!voidChests.isEmpty()) {
+                workers.execute(() -> priceBatch(region, voidChests, snapshots));
+            }
+        } finally {
+            region.running.set(false);
+        }
+    }
+
+    private void priceBatch(@NonNull RegionQueue region, @NonNull List<AbstractVoidChest> voidChests, @NonNull List<S> snapshots) {
+        for (int i = 0; i < voidChests.size(); i++) {
+            AbstractVoidChest voidChest = voidChests.get(i);
+            R result = null;
+            try {
+                result = handler.price(voidChest, snapshots.get(i));
+            } catch (Throwable throwable) {
+                LOGGER.log(Level.WARNING, "Failed to price sale for void chest " + voidChest.getUniqueId(), throwable);
+            }
+            if (result == null) {
+                inFlight.remove(voidChest.getUniqueId());
+            } else {
+                region.results.add(new Priced<>(voidChest, result));
+            }
+        }
+    }
+
+    private record Priced<R>(AbstractVoidChest voidChest, R result) {
+    }
+
+    private final class RegionQueue {
+
+        private final RegionKey key;
+        private final Queue<AbstractVoidChest> snapshots = new ConcurrentLinkedQueue<>();
+        private final Queue<Priced<R>> results = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean();
+        private volatile VoidChunk anchor;
+        private volatile long dispatchedAt;
+
+        private RegionQueue(RegionKey key, VoidChunk anchor) {
+            this.key = key;
+            this.anchor = anchor;
+        }
+
+        private boolean hasWork() {
+            return !snapshots.isEmpty() || !results.isEmpty();
+        }
+    }
+}
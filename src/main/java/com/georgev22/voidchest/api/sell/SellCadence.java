@@ -0,0 +1,41 @@
+package com.georgev22.voidchest.api.sell;
+
+/**
+ * A snapshot of how often a void chest is currently swept by the {@link AdaptiveSellScheduler}.
+ *
+ * @param baseIntervalMillis      the configured sell interval of the void chest type
+ * @param intervalMillis          the activity-adjusted interval, before the server load factor is applied
+ * @param effectiveIntervalMillis the interval actually used, including the server load factor
+ * @param loadFactor              the factor the interval is widened by because of server load, {@code 1.0} when idle
+ * @param nextSellAt              the next planned sell, in milliseconds since the Unix epoch
+ * @param reason                  why the interval differs from the configured one
+ */
+public record SellCadence(long baseIntervalMillis,
+                          long intervalMillis,
+                          long effectiveIntervalMillis,
+                          double loadFactor,
+                          long nextSellAt,
+                          Reason reason) {
+
+    /**
+     * The reason a void chest is swept at its current cadence.
+     */
+    public enum Reason {
+        /**
+         * The configured sell interval is used.
+         */
+        BASE,
+        /**
+         * Recent sweeps found nothing to sell, so the interval was backed off.
+         */
+        IDLE_BACKOFF,
+        /**
+         * The void chest keeps receiving items, so the interval was shortened.
+         */
+        ACTIVE,
+        /**
+         * The server tick time is above the threshold, so the interval was widened.
+         */
+        SERVER_LOAD
+    }
+}
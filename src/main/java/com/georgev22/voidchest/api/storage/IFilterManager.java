@@ -1,11 +1,16 @@
 package com.georgev22.voidchest.api.storage;
 
+import com.georgev22.voidchest.api.config.OptionsUtil;
 import com.georgev22.voidchest.api.datastructures.maps.UnmodifiableObjectMap;
+import com.georgev22.voidchest.api.storage.data.filter.FilterMatcher;
+import com.georgev22.voidchest.api.storage.data.filter.FilterMatcherCache;
 import com.georgev22.voidchest.api.storage.model.AbstractVoidChest;
 import com.georgev22.voidchest.api.storage.data.filter.FilterData;
 import org.bukkit.inventory.ItemStack;
+import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.UUID;
 
 /**
@@ -32,6 +37,44 @@ public interface IFilterManager {
      */
     boolean isAllowed(ItemStack item, @Nullable AbstractVoidChest voidChest);
 
+    /**
+     * Retrieves the compiled filter of a specific VoidChest, with the global, type and UUID filters merged
+     * and the configured {@link FilterMode} applied.
+     * <p>
+     * If the VoidChest is null, the global filter is used.
+     * <p>
+     * The default implementation compiles the matcher on every call. Implementations should keep the
+     * matchers in a {@link FilterMatcherCache} and invalidate it whenever a filter is added, removed or reloaded,
+     * so {@link #isAllowed(ItemStack, AbstractVoidChest)} can delegate to
+     * {@link FilterMatcherCache#isAllowed(ItemStack, AbstractVoidChest)} and its decision cache.
+     *
+     * @param voidChest The VoidChest to retrieve the matcher for.
+     * @return The compiled {@link FilterMatcher}.
+     */
+    default @NonNull FilterMatcher matcher(@Nullable AbstractVoidChest voidChest) {
+        FilterMode mode = FilterMode.fromString(OptionsUtil.FILTER_MODE.getStringValue());
+        if (voidChest == null) {
+            return FilterMatcher.compile(mode, Arrays.asList(getGlobalFilter()));
+        }
+        String type = voidChest.type();
+        return FilterMatcher.compile(mode, Arrays.asList(
+                getGlobalFilter(),
+                type == null ? null : getTypeFilter(type),
+                getUUIDFilter(voidChest.getUniqueId())
+        ));
+    }
+
+    /**
+     * Called when a void chest is deleted, so per-chest state such as cached matchers can be released.
+     * <p>
+     * The UUID filter itself is left alone. Implementations keeping a {@link FilterMatcherCache} should call
+     * {@link FilterMatcherCache#removeChest(UUID)}.
+     *
+     * @param chestUUID The UUID of the deleted void chest.
+     */
+    default void removeVoidChest(@NonNull UUID chestUUID) {
+    }
+
     /**
      * Adds an item to the global filter list.
      * This affects all chests using global filtering.
@@ -21,6 +21,9 @@ public interface IVoidItemManager {
 
     /**
      * Checks if the specified ItemStack represents a VoidChest item.
+     * <p>
+     * This is called on every place and interact event, so implementations should answer it
+     * through a {@link VoidItemIndex} instead of comparing against every cached item.
      *
      * @param itemStack The ItemStack to check.
      * @return True if the ItemStack represents a VoidChest item, false otherwise.
@@ -38,6 +41,8 @@ public interface IVoidItemManager {
 
     /**
      * Caches the VoidChest items.
+     * <p>
+     * Implementations should rebuild their {@link VoidItemIndex} once the items are cached.
      */
     void cacheItems();
 
@@ -51,6 +56,8 @@ public interface IVoidItemManager {
 
     /**
      * Retrieves the cached VoidChest item for the specified ItemStack.
+     * <p>
+     * Implementations should resolve the item through {@link VoidItemIndex#identify(ItemStack)}.
      *
      * @param itemStack The ItemStack to retrieve the cached VoidChest item for.
      * @return An Optional containing the cached VoidChest item if found, or an empty Optional if not found.
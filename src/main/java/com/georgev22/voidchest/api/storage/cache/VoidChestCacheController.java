@@ -39,6 +39,7 @@ public class VoidChestCacheController {
     private final ObjectMap<AbstractPlayerData, Set<AbstractVoidChest>> playerCache = ObjectMaps.newConcurrentHashObjectMap();
     private final Set<BlockFace> nearBlockFaces = Sets.immutableEnumSet(BlockFace.EAST, BlockFace.WEST, BlockFace.NORTH,
             BlockFace.SOUTH, BlockFace.UP, BlockFace.DOWN);
+    private final VoidChestSummaryIndex summaryIndex = new VoidChestSummaryIndex();
 
     /**
      * Adds a {@link AbstractVoidChest} to the location cache.
@@ -59,6 +60,7 @@ public class VoidChestCacheController {
     public void add(@NonNull AbstractVoidChest voidChest, @NonNull SerializableLocation location) {
         voidChestCache.putIfAbsent(location, voidChest);
         chunkCache.computeIfAbsent(location.getChunk(), k -> ConcurrentHashMap.newKeySet()).add(voidChest);
+        summaryIndex.update(voidChest);
     }
 
     /**
@@ -78,6 +80,7 @@ public class VoidChestCacheController {
      * <ul>
      *   <li>The location-based cache</li>
      *   <li>The chunk-based cache</li>
+     *   <li>The {@link VoidChestSummaryIndex}</li>
      * </ul>
      *
      * @param voidChest The void chest to remove from the cache.
@@ -85,6 +88,7 @@ public class VoidChestCacheController {
     public void remove(@NonNull AbstractVoidChest voidChest) {
         voidChestCache.remove(voidChest.blockLocation());
         chunkCache.getOrDefault(voidChest.blockLocation().getChunk(), ConcurrentHashMap.newKeySet()).remove(voidChest);
+        summaryIndex.remove(voidChest);
     }
 
     /**
@@ -96,6 +100,7 @@ public class VoidChestCacheController {
         AbstractVoidChest removed = voidChestCache.remove(location);
         if (removed == null) return;
         chunkCache.getOrDefault(location.getChunk(), ConcurrentHashMap.newKeySet()).remove(removed);
+        summaryIndex.remove(removed);
     }
 
     /**
@@ -108,11 +113,21 @@ public class VoidChestCacheController {
     }
 
     /**
-     * Clears all cached {@link AbstractVoidChest} instances from both the location and chunk caches.
+     * Retrieves the index of void chest summaries per owner, used to sort and search void chest lists.
+     *
+     * @return The summary index.
+     */
+    public VoidChestSummaryIndex summaryIndex() {
+        return summaryIndex;
+    }
+
+    /**
+     * Clears all cached {@link AbstractVoidChest} instances from the location and chunk caches and the summary index.
      */
     public void clearCache() {
         voidChestCache.clear();
         chunkCache.clear();
+        summaryIndex.clear();
     }
 
     /**
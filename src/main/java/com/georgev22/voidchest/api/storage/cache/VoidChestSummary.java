@@ -0,0 +1,84 @@
+package com.georgev22.voidchest.api.storage.cache;
+
+import com.georgev22.voidchest.api.storage.model.AbstractVoidChest;
+import com.georgev22.voidchest.api.storage.model.voidchest.Charge;
+import com.georgev22.voidchest.api.storage.model.voidchest.DeadlineCharge;
+import com.georgev22.voidchest.api.storage.model.voidchest.Stats;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An immutable snapshot of the values of a {@link AbstractVoidChest} that lists are sorted and searched by.
+ * <p>
+ * The charge is kept as the moment it runs out rather than the time left, so the snapshot stays valid
+ * while the charge burns down; {@link #chargeLeft()} derives the time left when it is read.
+ *
+ * @param id             The UUID of the void chest.
+ * @param owner          The UUID of the owner.
+ * @param name           The name of the void chest, or an empty string.
+ * @param type           The type of the void chest, or an empty string.
+ * @param world          The name of the world the void chest is in, or an empty string.
+ * @param moneyMade      The money the void chest made.
+ * @param itemsSold      The number of items the void chest sold.
+ * @param chargeDeadline The moment the charge runs out, in milliseconds since the Unix epoch,
+ *                       or {@code 0} if the void chest has no charge.
+ */
+public record VoidChestSummary(
+        @NonNull UUID id,
+        @NonNull UUID owner,
+        @NonNull String name,
+        @NonNull String type,
+        @NonNull String world,
+        @NonNull BigDecimal moneyMade,
+        @NonNull BigInteger itemsSold,
+        long chargeDeadline
+) {
+
+    /**
+     * Retrieves the charge left at the time of this call.
+     *
+     * @return The charge left in seconds, never negative.
+     */
+    public long chargeLeft() {
+        long remaining = chargeDeadline - System.currentTimeMillis();
+        return remaining <= 0L ? 0L : TimeUnit.MILLISECONDS.toSeconds(remaining + 999L);
+    }
+
+    /**
+     * Takes a snapshot of the given void chest.
+     *
+     * @param voidChest The void chest.
+     * @return The summary of the void chest.
+     */
+    public static @NonNull VoidChestSummary of(@NonNull AbstractVoidChest voidChest) {
+        Stats stats = voidChest.stats();
+        Charge charge = voidChest.charge();
+        return new VoidChestSummary(
+                voidChest.getUniqueId(),
+                voidChest.ownerUUID(),
+                orEmpty(voidChest.name()),
+                orEmpty(voidChest.type()),
+                orEmpty(voidChest.blockLocation().getWorldName()),
+                stats == null || stats.money() == null ? BigDecimal.ZERO : stats.money(),
+                stats == null || stats.itemsSold() == null ? BigInteger.ZERO : stats.itemsSold(),
+                chargeDeadline(charge)
+        );
+    }
+
+    private static long chargeDeadline(@Nullable Charge charge) {
+        if (charge instanceof DeadlineCharge deadlineCharge) {
+            return deadlineCharge.deadline();
+        }
+        long chargeLeft = charge == null ? 0L : charge.chargeTime();
+        return chargeLeft <= 0L ? 0L : System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(chargeLeft);
+    }
+
+    private static @NonNull String orEmpty(@Nullable String value) {
+        return value == null ? "" : value;
+    }
+}
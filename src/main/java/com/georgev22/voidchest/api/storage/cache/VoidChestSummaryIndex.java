@@ -0,0 +1,307 @@
+package com.georgev22.voidchest.api.storage.cache;
+
+import com.georgev22.voidchest.api.datastructures.maps.HashObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.menu.filter.ItemsFilter;
+import com.georgev22.voidchest.api.menu.item.items.MenuItem;
+import com.georgev22.voidchest.api.menu.paging.MenuItemSource;
+import com.georgev22.voidchest.api.storage.model.AbstractVoidChest;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Keeps the {@link VoidChestSummary summaries} of the void chests of every owner sorted by each {@link SortKey}
+ * and by name, so the void chest list of a player can be sorted, cut to the top entries and searched by name
+ * without going through all chests of the player.
+ * <p>
+ * The index is maintained incrementally: {@link VoidChestCacheController} updates it when a void chest is
+ * cached or removed, and {@link AbstractVoidChest} when it is saved while indexed. Call {@link #update(AbstractVoidChest)}
+ * after changing a void chest that is not saved right away, so its entry moves to its new position.
+ * <p>
+ * Menus listing void chests can use it through {@link #itemsFilter(UUID, SortKey, String, Function)}, or page
+ * through it directly with {@link #source(UUID, SortKey, String, Function)}.
+ */
+public class VoidChestSummaryIndex {
+
+    private final ObjectMap<UUID, OwnerIndex> owners = ObjectMaps.newConcurrentHashObjectMap();
+    private final ObjectMap<UUID, UUID> chestOwners = ObjectMaps.newConcurrentHashObjectMap();
+
+    /**
+     * Adds the void chest to the index, or moves its entry if its values or owner changed.
+     *
+     * @param voidChest The void chest.
+     */
+    public synchronized void update(@NonNull AbstractVoidChest voidChest) {
+        UUID owner = voidChest.ownerUUID();
+        if (owner == null) {
+            remove(voidChest.getUniqueId());
+            return;
+        }
+        VoidChestSummary summary = VoidChestSummary.of(voidChest);
+        UUID previousOwner = chestOwners.put(summary.id(), owner);
+        if (previousOwner != null && !previousOwner.equals(owner)) {
+            removeFromOwner(previousOwner, summary.id());
+        }
+        owners.computeIfAbsent(owner, k -> new OwnerIndex()).put(summary);
+    }
+
+    /**
+     * Moves the entry of the void chest if it is already indexed, and does nothing otherwise.
+     * <p>
+     * Use this from places that may run after the void chest was removed, like a final save, so a removed
+     * void chest does not come back into the index.
+     *
+     * @param voidChest The void chest.
+     */
+    public synchronized void updateIfPresent(@NonNull AbstractVoidChest voidChest) {
+        if (chestOwners.containsKey(voidChest.getUniqueId())) {
+            update(voidChest);
+        }
+    }
+
+    /**
+     * Removes the void chest from the index.
+     *
+     * @param voidChest The void chest.
+     */
+    public void remove(@NonNull AbstractVoidChest voidChest) {
+        remove(voidChest.getUniqueId());
+    }
+
+    /**
+     * Removes the void chest with the given UUID from the index.
+     *
+     * @param voidChestId The UUID of the void chest.
+     */
+    public synchronized void remove(@NonNull UUID voidChestId) {
+        UUID owner = chestOwners.remove(voidChestId);
+        if (owner != null) {
+            removeFromOwner(owner, voidChestId);
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public synchronized void clear() {
+        owners.clear();
+        chestOwners.clear();
+    }
+
+    /**
+     * Retrieves the summary of the void chest with the given UUID.
+     *
+     * @param voidChestId The UUID of the void chest.
+     * @return An Optional containing the summary, or an empty Optional if the void chest is not indexed.
+     */
+    public @NonNull Optional<VoidChestSummary> get(@NonNull UUID voidChestId) {
+        UUID owner = chestOwners.get(voidChestId);
+        OwnerIndex ownerIndex = owner == null ? null : owners.get(owner);
+        return ownerIndex == null ? Optional.empty() : Optional.ofNullable(ownerIndex.get(voidChestId));
+    }
+
+    /**
+     * Retrieves the number of indexed void chests of an owner.
+     *
+     * @param owner The UUID of the owner.
+     * @return The number of void chests.
+     */
+    public int size(@NonNull UUID owner) {
+        OwnerIndex ownerIndex = owners.get(owner);
+        return ownerIndex == null ? 0 : ownerIndex.size();
+    }
+
+    /**
+     * Retrieves the void chests of an owner with the highest values of the sort key.
+     *
+     * @param owner The UUID of the owner.
+     * @param key   The value to sort by, highest first.
+     * @param limit The maximum number of summaries.
+     * @return The summaries, highest first.
+     */
+    public @NonNull List<VoidChestSummary> top(@NonNull UUID owner, @NonNull SortKey key, int limit) {
+        return query(owner, key, null, limit);
+    }
+
+    /**
+     * Retrieves the void chests of an owner whose name starts with the prefix, ignoring case.
+     *
+     * @param owner  The UUID of the owner.
+     * @param prefix The name prefix.
+     * @param key    The value to sort the matches by, highest first.
+     * @param limit  The maximum number of summaries.
+     * @return The matching summaries, highest first.
+     */
+    public @NonNull List<VoidChestSummary> search(@NonNull UUID owner, @NonNull String prefix, @NonNull SortKey key, int limit) {
+        return query(owner, key, prefix, limit);
+    }
+
+    /**
+     * Retrieves the void chests of an owner sorted by the sort key, optionally limited to a name prefix.
+     *
+     * @param owner  The UUID of the owner.
+     * @param key    The value to sort by, highest first.
+     * @param prefix The name prefix, ignoring case, or {@code null} or empty for every void chest.
+     * @param limit  The maximum number of summaries.
+     * @return The summaries, highest first.
+     */
+    public @NonNull List<VoidChestSummary> query(@NonNull UUID owner, @NonNull SortKey key, @Nullable String prefix, int limit) {
+        OwnerIndex ownerIndex = owners.get(owner);
+        if (ownerIndex == null || limit <= 0) {
+            return List.of();
+        }
+        return ownerIndex.query(key, prefix == null ? "" : prefix.toLowerCase(Locale.ROOT), limit);
+    }
+
+    /**
+     * Creates a source of menu items for the void chests of an owner, sorted by the sort key and optionally
+     * limited to a name prefix. Items are only created for the pages that are shown.
+     * <p>
+     * The source holds the order at the time of this call.
+     *
+     * @param owner   The UUID of the owner.
+     * @param key     The value to sort by, highest first.
+     * @param prefix  The name prefix, ignoring case, or {@code null} or empty for every void chest.
+     * @param factory Creates the menu item of a void chest.
+     * @return The source.
+     */
+    public @NonNull MenuItemSource source(@NonNull UUID owner,
+                                          @NonNull SortKey key,
+                                          @Nullable String prefix,
+                                          @NonNull Function<VoidChestSummary, @NonNull MenuItem> factory) {
+        List<VoidChestSummary> summaries = query(owner, key, prefix, Integer.MAX_VALUE);
+        return MenuItemSource.lazy(summaries::size, index -> factory.apply(summaries.get(index)));
+    }
+
+    /**
+     * Creates a filter that orders the void chest items of a menu by the sort key, and optionally keeps only
+     * those whose name starts with the prefix. The order comes from the index, so no items are compared.
+     * <p>
+     * Items that are not indexed void chests of the owner are removed.
+     *
+     * @param owner   The UUID of the owner.
+     * @param key     The value to sort by, highest first.
+     * @param prefix  The name prefix, ignoring case, or {@code null} or empty for every void chest.
+     * @param chestId Retrieves the UUID of the void chest an item shows, or {@code null} if it shows none.
+     * @return The filter.
+     */
+    public @NonNull ItemsFilter itemsFilter(@NonNull UUID owner,
+                                            @NonNull SortKey key,
+                                            @Nullable String prefix,
+                                            @NonNull Function<MenuItem, @Nullable UUID> chestId) {
+        return (viewerContext, items) -> {
+            ObjectMap<UUID, MenuItem> byChest = new HashObjectMap<>();
+            for (MenuItem item : items) {
+                UUID id = chestId.apply(item);
+                if (id != null) {
+                    byChest.putIfAbsent(id, item);
+                }
+            }
+            List<MenuItem> result = new ArrayList<>(byChest.size());
+            for (VoidChestSummary summary : query(owner, key, prefix, Integer.MAX_VALUE)) {
+                MenuItem item = byChest.get(summary.id());
+                if (item != null) {
+                    result.add(item);
+                }
+            }
+            return result;
+        };
+    }
+
+    private void removeFromOwner(@NonNull UUID owner, @NonNull UUID voidChestId) {
+        OwnerIndex ownerIndex = owners.get(owner);
+        if (ownerIndex != null && ownerIndex.remove(voidChestId) && ownerIndex.size() == 0) {
+            owners.remove(owner);
+        }
+    }
+
+    /**
+     * The values void chest lists can be sorted by.
+     */
+    public enum SortKey {
+        MONEY_MADE(Comparator.comparing(VoidChestSummary::moneyMade)),
+        ITEMS_SOLD(Comparator.comparing(VoidChestSummary::itemsSold)),
+        CHARGE_LEFT(Comparator.comparingLong(VoidChestSummary::chargeDeadline));
+
+        private final Comparator<VoidChestSummary> comparator;
+
+        SortKey(@NonNull Comparator<VoidChestSummary> ascending) {
+            this.comparator = ascending.reversed().thenComparing(VoidChestSummary::id);
+        }
+
+        /**
+         * Retrieves the order of this key, highest first, with ties ordered by UUID.
+         *
+         * @return The comparator.
+         */
+        public @NonNull Comparator<VoidChestSummary> comparator() {
+            return comparator;
+        }
+    }
+
+    /**
+     * The sorted entries of a single owner.
+     */
+    private static final class OwnerIndex {
+
+        private final ObjectMap<UUID, VoidChestSummary> byId = new HashObjectMap<>();
+        private final EnumMap<SortKey, TreeSet<VoidChestSummary>> byKey = new EnumMap<>(SortKey.class);
+        private final TreeMap<String, VoidChestSummary> byName = new TreeMap<>();
+
+        private OwnerIndex() {
+            for (SortKey key : SortKey.values()) {
+                byKey.put(key, new TreeSet<>(key.comparator()));
+            }
+        }
+
+        private synchronized @Nullable VoidChestSummary get(@NonNull UUID id) {
+            return byId.get(id);
+        }
+
+        private synchronized int size() {
+            return byId.size();
+        }
+
+        private synchronized void put(@NonNull VoidChestSummary summary) {
+            VoidChestSummary previous = byId.get(summary.id());
+            if (summary.equals(previous)) return;
+            if (previous != null) {
+                remove(summary.id());
+            }
+            byId.put(summary.id(), summary);
+            byKey.values().forEach(sorted -> sorted.add(summary));
+            byName.put(nameKey(summary), summary);
+        }
+
+        private synchronized boolean remove(@NonNull UUID id) {
+            VoidChestSummary previous = byId.remove(id);
+            if (previous == null) return false;
+            byKey.values().forEach(sorted -> sorted.remove(previous));
+            byName.remove(nameKey(previous));
+            return true;
+        }
+
+        private synchronized @NonNull List<VoidChestSummary> query(@NonNull SortKey key, @NonNull String prefix, int limit) {
+            if (prefix.isEmpty()) {
+                List<VoidChestSummary> result = new ArrayList<>(Math.min(limit, byId.size()));
+                for (VoidChestSummary summary : byKey.get(key)) {
+                    if (result.size() >= limit) break;
+                    result.add(summary);
+                }
+                return result;
+            }
+            List<VoidChestSummary> matches = new ArrayList<>(
+                    byName.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values());
+            matches.sort(key.comparator());
+            return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+        }
+
+        private static @NonNull String nameKey(@NonNull VoidChestSummary summary) {
+            return summary.name().toLowerCase(Locale.ROOT) + '\u0000' + summary.id();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.georgev22.voidchest.api.storage.cache;
+
+import com.georgev22.voidchest.api.utilities.ItemFingerprint;
+import com.georgev22.voidchest.api.utilities.persistence.DataContainerFactory;
+import com.georgev22.voidchest.api.utilities.persistence.DataType;
+import com.georgev22.voidchest.api.utilities.persistence.ModernDataContainerWrapper;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Identifies VoidChest items without full NBT reads or comparisons against every cached item.
+ * <p>
+ * VoidChest items handed out by the plugin carry the name of their {@link IVoidChestItem} under {@link #ITEM_KEY}
+ * in their PersistentDataContainer, see {@link #mark(ItemStack, IVoidChestItem)}. The marker is read through the
+ * read-only view of the stack, so no item meta is copied. Items created before the marker existed are resolved
+ * through a fingerprint index of the cached items and confirmed with {@link ItemStack#isSimilar(ItemStack)}.
+ * Stacks whose material is not used by any VoidChest item are rejected with a single bit test.
+ * <p>
+ * {@link IVoidItemManager} implementations are expected to call {@link #rebuild(Map)} from
+ * {@link IVoidItemManager#cacheItems()} and to delegate {@link IVoidItemManager#voidItem(ItemStack)} and
+ * {@link IVoidItemManager#cachedItem(ItemStack)} to {@link #identify(ItemStack)}.
+ */
+public class VoidItemIndex {
+
+    /**
+     * The key of the marker that holds the VoidChest item name.
+     */
+    public static final NamespacedKey ITEM_KEY = NamespacedKey.fromString("voidchest:item");
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), new BitSet(), Map.of());
+
+    /**
+     * Rebuilds the index from the given cached items.
+     *
+     * @param items The cached items, usually {@link IVoidItemManager#itemCacheMap()}.
+     */
+    public void rebuild(@NonNull Map<String, IVoidChestItem> items) {
+        Map<String, IVoidChestItem> byName = new HashMap<>();
+        BitSet materials = new BitSet();
+        Map<Long, List<Template>> fingerprints = new HashMap<>();
+        for (IVoidChestItem voidChestItem : items.values()) {
+            ItemStack template = voidChestItem.voidChestItem();
+            if (template == null || template.getType().isAir()) continue;
+            byName.put(voidChestItem.name(), voidChestItem);
+            materials.set(template.getType().ordinal());
+            ItemStack unmarked = unmark(template.clone());
+            fingerprints.computeIfAbsent(ItemFingerprint.of(unmarked), k -> new ArrayList<>(1))
+                    .add(new Template(unmarked, voidChestItem));
+        }
+        fingerprints.replaceAll((fingerprint, templates) -> List.copyOf(templates));
+        snapshot = new Snapshot(Map.copyOf(byName), materials, Map.copyOf(fingerprints));
+    }
+
+    /**
+     * Identifies the VoidChest item the given stack represents.
+     *
+     * @param itemStack The stack to identify.
+     * @return An Optional containing the VoidChest item, or an empty Optional if the stack is not a VoidChest item.
+     */
+    public @NonNull Optional<IVoidChestItem> identify(@Nullable ItemStack itemStack) {
+        if (itemStack == null || itemStack.getType().isAir()) return Optional.empty();
+        Snapshot snapshot = this.snapshot;
+        if (!snapshot.materials().get(itemStack.getType().ordinal()) || !itemStack.hasItemMeta()) {
+            return Optional.empty();
+        }
+
+        String name = DataContainerFactory.wrapView(itemStack).get(ITEM_KEY, DataType.STRING);
+        if (name != null) {
+            return Optional.ofNullable(snapshot.byName().get(name));
+        }
+
+        List<Template> templates = snapshot.fingerprints().get(ItemFingerprint.of(itemStack));
+        if (templates == null) return Optional.empty();
+        for (Template template : templates) {
+            if (template.item().isSimilar(itemStack)) {
+                return Optional.of(template.voidChestItem());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Checks whether the given stack represents a VoidChest item.
+     *
+     * @param itemStack The stack to check.
+     * @return True if the stack represents a VoidChest item, false otherwise.
+     */
+    public boolean isVoidItem(@Nullable ItemStack itemStack) {
+        return identify(itemStack).isPresent();
+    }
+
+    /**
+     * Marks the given stack as the given VoidChest item.
+     *
+     * @param itemStack     The stack to mark.
+     * @param voidChestItem The VoidChest item the stack represents.
+     * @return The same stack, for chaining.
+     */
+    public static @NonNull ItemStack mark(@NonNull ItemStack itemStack, @NonNull IVoidChestItem voidChestItem) {
+        ItemMeta meta = itemStack.getItemMeta();
+        if (meta == null) return itemStack;
+        new ModernDataContainerWrapper(meta.getPersistentDataContainer()).set(ITEM_KEY, DataType.STRING, voidChestItem.name());
+        itemStack.setItemMeta(meta);
+        return itemStack;
+    }
+
+    private static @NonNull ItemStack unmark(@NonNull ItemStack itemStack) {
+        if (!itemStack.hasItemMeta()) return itemStack;
+        ItemMeta meta = itemStack.getItemMeta();
+        if (meta.getPersistentDataContainer().has(ITEM_KEY)) {
+            meta.getPersistentDataContainer().remove(ITEM_KEY);
+            itemStack.setItemMeta(meta);
+        }
+        return itemStack;
+    }
+
+    private record Template(ItemStack item, IVoidChestItem voidChestItem) {
+    }
+
+    private record Snapshot(Map<String, IVoidChestItem> byName, BitSet materials, Map<Long, List<Template>> fingerprints) {
+    }
+}
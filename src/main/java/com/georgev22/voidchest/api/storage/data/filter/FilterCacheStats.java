@@ -0,0 +1,31 @@
+package com.georgev22.voidchest.api.storage.data.filter;
+
+/**
+ * A snapshot of the filter decision cache counters of a {@link FilterMatcherCache}.
+ *
+ * @param hits       the decisions answered from the cache
+ * @param misses     the decisions computed by a {@link FilterMatcher} and then cached
+ * @param bypasses   the decisions computed without the cache, because the item carries item meta
+ * @param generation the current filter generation, bumped on every filter change
+ */
+public record FilterCacheStats(long hits, long misses, long bypasses, long generation) {
+
+    /**
+     * Retrieves the total number of decisions.
+     *
+     * @return The sum of hits, misses and bypasses.
+     */
+    public long requests() {
+        return hits + misses + bypasses;
+    }
+
+    /**
+     * Retrieves the share of decisions answered from the cache.
+     *
+     * @return The hit rate between {@code 0.0} and {@code 1.0}, or {@code 0.0} if nothing was decided yet.
+     */
+    public double hitRate() {
+        long requests = requests();
+        return requests == 0 ? 0.0D : (double) hits / requests;
+    }
+}
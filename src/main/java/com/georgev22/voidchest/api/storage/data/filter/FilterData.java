@@ -2,16 +2,18 @@ package com.georgev22.voidchest.api.storage.data.filter;
 
 import org.bukkit.inventory.ItemStack;
 import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
 
-import java.util.AbstractMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public class FilterData implements Cloneable {
     private Map<String, ItemContainer> itemContainers = new HashMap<>();
-    private transient Map<String, ItemStack> itemCache = new HashMap<>();
+    /**
+     * The containers keyed by parsed UUID, rebuilt lazily after every change.
+     */
+    private transient volatile @Nullable Map<UUID, ItemContainer> containerView;
 
     /**
      * Adds an item to the filter with specified options.
@@ -28,7 +30,7 @@ public class FilterData implements Cloneable {
         String key = uuid.toString();
         ItemContainer container = new ItemContainer(item, options);
         itemContainers.put(key, container);
-        itemCache.put(key, container.getItem());
+        containerView = null;
     }
 
     /**
@@ -43,28 +45,23 @@ public class FilterData implements Cloneable {
     public void removeItem(@NonNull UUID uuid) {
         String key = uuid.toString();
         itemContainers.remove(key);
-        itemCache.remove(key);
+        containerView = null;
     }
 
     /**
      * Retrieves all filtered items mapped by their UUIDs.
      * <p>
-     * The internal cache is built if empty by deserializing stored NBT data.
+     * Each stored item is deserialized from its NBT data only once, see {@link ItemContainer#getItem()}.
+     * The returned items are copies and can be modified freely.
      * </p>
      *
      * @return A {@link Map} of UUIDs to their associated {@link ItemStack}s
      */
     public Map<UUID, ItemStack> getItems() {
-        if (itemCache.isEmpty()) {
-            itemContainers.forEach((key, container) ->
-                    itemCache.put(key, container.getItem())
-            );
-        }
-        return itemCache.entrySet().stream()
-                .map(entry -> new AbstractMap.SimpleEntry<>(
-                        UUID.fromString(entry.getKey()), entry.getValue())
-                )
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        Map<UUID, ItemContainer> view = containerView();
+        Map<UUID, ItemStack> items = new HashMap<>(view.size());
+        view.forEach((uuid, container) -> items.put(uuid, container.getItem()));
+        return items;
     }
 
     /**
@@ -73,15 +70,25 @@ public class FilterData implements Cloneable {
      * @return A {@link Map} of UUIDs to their associated {@link ItemOptions}
      */
     public Map<UUID, ItemContainer> getItemContainers() {
-        return itemContainers.entrySet().stream()
-                .map(entry -> new AbstractMap.SimpleEntry<>(
-                        UUID.fromString(entry.getKey()), entry.getValue())
-                )
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        return new HashMap<>(containerView());
+    }
+
+    private @NonNull Map<UUID, ItemContainer> containerView() {
+        Map<UUID, ItemContainer> view = containerView;
+        if (view == null) {
+            Map<UUID, ItemContainer> containers = new HashMap<>(itemContainers.size());
+            itemContainers.forEach((key, container) -> containers.put(UUID.fromString(key), container));
+            view = Map.copyOf(containers);
+            containerView = view;
+        }
+        return view;
     }
 
     /**
      * Creates a deep copy of this FilterData instance.
+     * <p>
+     * The cloned containers share the already parsed items of this instance, so nothing is parsed again.
+     * </p>
      *
      * @return A cloned {@link FilterData} with all current data
      */
@@ -97,9 +104,9 @@ public class FilterData implements Cloneable {
         filterData.itemContainers = new HashMap<>();
         this.itemContainers.forEach((key, container) -> {
             ItemOptions clonedOptions = container.getOptions().clone();
-            filterData.itemContainers.put(key, new ItemContainer(container.getNbt(), clonedOptions));
+            filterData.itemContainers.put(key, new ItemContainer(container, clonedOptions));
         });
-        filterData.itemCache = new HashMap<>(this.itemCache);
+        filterData.containerView = null;
         return filterData;
     }
 }
\ No newline at end of file
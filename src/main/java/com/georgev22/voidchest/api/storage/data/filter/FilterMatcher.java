@@ -0,0 +1,167 @@
+package com.georgev22.voidchest.api.storage.data.filter;
+
+import com.georgev22.voidchest.api.storage.IFilterManager.FilterMode;
+import com.georgev22.voidchest.api.utilities.ItemFingerprint;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, precompiled form of the effective filter of a void chest.
+ * <p>
+ * The global, type and UUID {@link FilterData} that apply to a void chest are merged into:
+ * <ul>
+ *     <li>a material bitset for entries that ignore both item meta and amount,</li>
+ *     <li>a material to amounts map for entries that ignore item meta only, and</li>
+ *     <li>fingerprint buckets for meta-sensitive entries, confirmed with {@link ItemStack#isSimilar(ItemStack)}.</li>
+ * </ul>
+ * The {@link FilterMode} is folded in, so {@link #isAllowed(ItemStack)} is a bit test for the common case.
+ * A matcher compiled from empty filters allows every item.
+ * <p>
+ * Matchers never change once built. They are rebuilt whenever the underlying filters change,
+ * see {@link FilterMatcherCache}.
+ */
+public final class FilterMatcher {
+
+    /**
+     * A matcher that allows every item.
+     */
+    public static final FilterMatcher ALLOW_ALL = new FilterMatcher(true, true, new BitSet(), new BitSet(), Map.of(), Map.of());
+
+    private final boolean empty;
+    private final boolean allowOnMatch;
+    private final BitSet materials;
+    private final BitSet amountSensitive;
+    private final Map<Material, BitSet> materialAmounts;
+    private final Map<Long, List<Entry>> fingerprints;
+
+    private FilterMatcher(boolean empty, boolean allowOnMatch, BitSet materials, BitSet amountSensitive, Map<Material, BitSet> materialAmounts, Map<Long, List<Entry>> fingerprints) {
+        this.empty = empty;
+        this.allowOnMatch = allowOnMatch;
+        this.materials = materials;
+        this.amountSensitive = amountSensitive;
+        this.materialAmounts = materialAmounts;
+        this.fingerprints = fingerprints;
+    }
+
+    /**
+     * Compiles the given filters into a matcher.
+     *
+     * @param mode    The filter mode to fold into the matcher.
+     * @param filters The filters that apply, usually the global, type and UUID filters. {@code null} entries are skipped.
+     * @return The compiled matcher.
+     */
+    public static @NonNull FilterMatcher compile(@NonNull FilterMode mode, @NonNull Collection<@Nullable FilterData> filters) {
+        BitSet materials = new BitSet();
+        BitSet amountSensitive = new BitSet();
+        Map<Material, BitSet> materialAmounts = new HashMap<>();
+        Map<Long, List<Entry>> fingerprints = new HashMap<>();
+        boolean empty = true;
+
+        for (FilterData filterData : filters) {
+            if (filterData == null) continue;
+            for (ItemContainer container : filterData.getItemContainers().values()) {
+                ItemStack item = container.getItem();
+                if (item == null || item.getType().isAir()) continue;
+                ItemOptions options = container.getOptions();
+                empty = false;
+                if (!options.isIgnoreItemAmount()) {
+                    amountSensitive.set(item.getType().ordinal());
+                }
+                if (options.isIgnoreItemMeta()) {
+                    if (options.isIgnoreItemAmount()) {
+                        materials.set(item.getType().ordinal());
+                    } else {
+                        materialAmounts.computeIfAbsent(item.getType(), k -> new BitSet()).set(item.getAmount());
+                    }
+                } else {
+                    fingerprints.computeIfAbsent(container.getFingerprint(), k -> new ArrayList<>(1))
+                            .add(new Entry(item, options.isIgnoreItemAmount()));
+                }
+            }
+        }
+
+        if (empty) return ALLOW_ALL;
+        fingerprints.replaceAll((fingerprint, entries) -> List.copyOf(entries));
+        return new FilterMatcher(false, mode == FilterMode.ALLOW, materials, amountSensitive, Map.copyOf(materialAmounts), Map.copyOf(fingerprints));
+    }
+
+    /**
+     * Checks whether the given item is allowed by this matcher, with the filter mode applied.
+     *
+     * @param item The item to check.
+     * @return {@code true} if the item is allowed, otherwise {@code false}.
+     */
+    public boolean isAllowed(@Nullable ItemStack item) {
+        if (empty) return true;
+        return matches(item) == allowOnMatch;
+    }
+
+    /**
+     * Checks whether the given item matches any filter entry, regardless of the filter mode.
+     *
+     * @param item The item to check.
+     * @return {@code true} if the item matches a filter entry, otherwise {@code false}.
+     */
+    public boolean matches(@Nullable ItemStack item) {
+        if (item == null || empty) return false;
+        Material type = item.getType();
+        if (materials.get(type.ordinal())) return true;
+        if (!materialAmounts.isEmpty()) {
+            BitSet amounts = materialAmounts.get(type);
+            if (amounts != null && amounts.get(item.getAmount())) return true;
+        }
+        if (fingerprints.isEmpty()) return false;
+        List<Entry> entries = fingerprints.get(ItemFingerprint.of(item));
+        if (entries == null) return false;
+        for (Entry entry : entries) {
+            if (entry.matches(item)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether this matcher was compiled from empty filters and therefore allows every item.
+     *
+     * @return {@code true} if no filter entries apply, otherwise {@code false}.
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Checks whether a match can depend on item meta or amount.
+     * <p>
+     * If it cannot, the decision for an item depends only on its material.
+     *
+     * @return {@code true} if some entries are meta or amount sensitive, otherwise {@code false}.
+     */
+    public boolean isMaterialOnly() {
+        return materialAmounts.isEmpty() && fingerprints.isEmpty();
+    }
+
+    /**
+     * Checks whether the decision for an item of the given material can depend on the stack amount.
+     *
+     * @param type The material.
+     * @return {@code true} if some entries of that material compare amounts, otherwise {@code false}.
+     */
+    public boolean isAmountSensitive(@NonNull Material type) {
+        return amountSensitive.get(type.ordinal());
+    }
+
+    private record Entry(ItemStack template, boolean ignoreAmount) {
+
+        private boolean matches(@NonNull ItemStack item) {
+            return template.isSimilar(item) && (ignoreAmount || template.getAmount() == item.getAmount());
+        }
+    }
+}
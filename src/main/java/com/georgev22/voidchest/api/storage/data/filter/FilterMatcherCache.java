@@ -0,0 +1,254 @@
+package com.georgev22.voidchest.api.storage.data.filter;
+
+import com.georgev22.voidchest.api.config.OptionsUtil;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.storage.IFilterManager;
+import com.georgev22.voidchest.api.storage.IFilterManager.FilterMode;
+import com.georgev22.voidchest.api.storage.model.AbstractVoidChest;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps one compiled {@link FilterMatcher} per filter set, together with a small cache of the decisions made with it.
+ * <p>
+ * Matchers are compiled lazily from the global, type and UUID filters of an {@link IFilterManager}.
+ * Void chests without a UUID filter of their own share the matcher and the decisions of their type,
+ * so the void chests of a mob farm warm up one cache instead of one each.
+ * <p>
+ * Every filter change bumps a generation counter: a global one for global changes, and one per type or void chest
+ * for targeted changes, so changing the filter of one void chest does not discard the matchers of the others.
+ * Matchers and decisions of an older generation are never served, including matchers compiled concurrently with
+ * the change. {@link IFilterManager} implementations are expected to call:
+ * <ul>
+ *     <li>{@link #invalidateAll()} from {@code addGlobalFilterItem}, {@code removeGlobalFilterItem} and {@code reloadAllFilters},</li>
+ *     <li>{@link #invalidateType(String)} from {@code addTypeFilterItem} and {@code removeTypeFilterItem},</li>
+ *     <li>{@link #invalidateChest(UUID)} from {@code addUUIDFilterItem} and {@code removeUUIDFilterItem},</li>
+ *     <li>{@link #removeChest(UUID)} from {@link IFilterManager#removeVoidChest(UUID)}.</li>
+ * </ul>
+ * <p>
+ * Decisions are keyed by material, plus the stack amount for materials with amount-sensitive entries.
+ * Items that carry item meta are always decided by the matcher, since their fingerprint alone cannot
+ * tell two different metas apart with certainty.
+ */
+public class FilterMatcherCache {
+
+    private static final int MAX_DECISIONS = 512;
+
+    private final ObjectMap<UUID, ChestMatcher> matchers = ObjectMaps.newConcurrentHashObjectMap();
+    private final ObjectMap<String, CachedMatcher> typeMatchers = ObjectMaps.newConcurrentHashObjectMap();
+    private final IFilterManager filterManager;
+    private final AtomicLong generation = new AtomicLong();
+    private final ObjectMap<String, Long> typeGenerations = ObjectMaps.newConcurrentHashObjectMap();
+    private final ObjectMap<UUID, Long> chestGenerations = ObjectMaps.newConcurrentHashObjectMap();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder bypasses = new LongAdder();
+    private volatile @Nullable CachedMatcher globalMatcher;
+
+    /**
+     * Creates a new matcher cache for the given filter manager.
+     *
+     * @param filterManager The filter manager to read the filters from.
+     */
+    public FilterMatcherCache(@NonNull IFilterManager filterManager) {
+        this.filterManager = filterManager;
+    }
+
+    /**
+     * Checks whether an item is allowed in the given void chest, answering repeated decisions from the cache.
+     * <p>
+     * If the void chest is null, the global filter is used.
+     *
+     * @param item      The item to check.
+     * @param voidChest The void chest, or {@code null} for the global filter.
+     * @return {@code true} if the item is allowed, otherwise {@code false}.
+     */
+    public boolean isAllowed(@Nullable ItemStack item, @Nullable AbstractVoidChest voidChest) {
+        CachedMatcher cached = cached(voidChest);
+        FilterMatcher matcher = cached.matcher;
+        if (item == null || matcher.isEmpty()) {
+            return matcher.isAllowed(item);
+        }
+        if (item.hasItemMeta()) {
+            bypasses.increment();
+            return matcher.isAllowed(item);
+        }
+        Material type = item.getType();
+        long key = ((long) type.ordinal() << 32) | (matcher.isAmountSensitive(type) ? item.getAmount() : 0);
+        Boolean decision = cached.decisions.get(key);
+        if (decision != null) {
+            hits.increment();
+            return decision;
+        }
+        misses.increment();
+        boolean allowed = matcher.isAllowed(item);
+        if (cached.decisions.size() >= MAX_DECISIONS) {
+            cached.decisions.clear();
+        }
+        cached.decisions.put(key, allowed);
+        return allowed;
+    }
+
+    /**
+     * Retrieves the compiled matcher for the given void chest, compiling it if needed.
+     * <p>
+     * If the void chest is null, the matcher of the global filter is returned.
+     *
+     * @param voidChest The void chest, or {@code null} for the global filter.
+     * @return The compiled matcher.
+     */
+    public @NonNull FilterMatcher matcher(@Nullable AbstractVoidChest voidChest) {
+        return cached(voidChest).matcher;
+    }
+
+    /**
+     * Retrieves the current decision cache counters.
+     *
+     * @return A snapshot of the counters.
+     */
+    public @NonNull FilterCacheStats stats() {
+        return new FilterCacheStats(hits.sum(), misses.sum(), bypasses.sum(), generation.get());
+    }
+
+    /**
+     * Resets the decision cache counters. Cached decisions are kept.
+     */
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+        bypasses.reset();
+    }
+
+    /**
+     * Discards every compiled matcher. Use after global filter changes or a reload.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        globalMatcher = null;
+        typeMatchers.clear();
+        matchers.clear();
+        typeGenerations.clear();
+        chestGenerations.clear();
+    }
+
+    /**
+     * Discards the compiled matchers of all void chests of the given type.
+     *
+     * @param type The void chest type.
+     */
+    public void invalidateType(@NonNull String type) {
+        typeGenerations.merge(type, 1L, Long::sum);
+        typeMatchers.remove(type);
+        matchers.values().removeIf(entry -> type.equals(entry.cached().type));
+    }
+
+    /**
+     * Discards the compiled matcher of the given void chest.
+     *
+     * @param chestUUID The void chest UUID.
+     */
+    public void invalidateChest(@NonNull UUID chestUUID) {
+        chestGenerations.merge(chestUUID, 1L, Long::sum);
+        matchers.remove(chestUUID);
+    }
+
+    /**
+     * Forgets the given void chest entirely. Use when the void chest is deleted.
+     *
+     * @param chestUUID The void chest UUID.
+     */
+    public void removeChest(@NonNull UUID chestUUID) {
+        matchers.remove(chestUUID);
+        chestGenerations.remove(chestUUID);
+    }
+
+    private @NonNull CachedMatcher cached(@Nullable AbstractVoidChest voidChest) {
+        long currentGeneration = generation.get();
+        if (voidChest == null) {
+            return global(currentGeneration);
+        }
+        String type = voidChest.type();
+        long typeGeneration = type == null ? 0L : typeGenerations.getOrDefault(type, 0L);
+        long chestGeneration = chestGenerations.getOrDefault(voidChest.getUniqueId(), 0L);
+        ChestMatcher entry = matchers.get(voidChest.getUniqueId());
+        if (entry != null && entry.chestGeneration() == chestGeneration) {
+            CachedMatcher cached = entry.cached();
+            if (cached.generation == currentGeneration && Objects.equals(cached.type, type)
+                    && cached.typeGeneration == typeGeneration) {
+                return cached;
+            }
+        }
+        CachedMatcher cached;
+        FilterData uuidFilter = filterManager.getUUIDFilter(voidChest.getUniqueId());
+        if (uuidFilter == null || uuidFilter.getItemContainers().isEmpty()) {
+            cached = type == null ? global(currentGeneration) : shared(type, currentGeneration, typeGeneration);
+        } else {
+            cached = new CachedMatcher(type, currentGeneration, typeGeneration, FilterMatcher.compile(mode(), Arrays.asList(
+                    filterManager.getGlobalFilter(),
+                    type == null ? null : filterManager.getTypeFilter(type),
+                    uuidFilter
+            )));
+        }
+        matchers.put(voidChest.getUniqueId(), new ChestMatcher(chestGeneration, cached));
+        return cached;
+    }
+
+    private @NonNull CachedMatcher global(long currentGeneration) {
+        CachedMatcher cached = globalMatcher;
+        if (cached != null && cached.generation == currentGeneration) {
+            return cached;
+        }
+        cached = new CachedMatcher(null, currentGeneration, 0L, FilterMatcher.compile(mode(), Arrays.asList(filterManager.getGlobalFilter())));
+        globalMatcher = cached;
+        return cached;
+    }
+
+    private @NonNull CachedMatcher shared(@NonNull String type, long currentGeneration, long typeGeneration) {
+        CachedMatcher cached = typeMatchers.get(type);
+        if (cached != null && cached.generation == currentGeneration && cached.typeGeneration == typeGeneration) {
+            return cached;
+        }
+        cached = new CachedMatcher(type, currentGeneration, typeGeneration, FilterMatcher.compile(mode(), Arrays.asList(
+                filterManager.getGlobalFilter(),
+                filterManager.getTypeFilter(type)
+        )));
+        typeMatchers.put(type, cached);
+        return cached;
+    }
+
+    private static @NonNull FilterMode mode() {
+        return FilterMode.fromString(OptionsUtil.FILTER_MODE.getStringValue());
+    }
+
+    private static final class CachedMatcher {
+
+        private final @Nullable String type;
+        private final long generation;
+        private final long typeGeneration;
+        private final FilterMatcher matcher;
+        private final ObjectMap<Long, Boolean> decisions = ObjectMaps.newConcurrentHashObjectMap();
+
+        private CachedMatcher(@Nullable String type, long generation, long typeGeneration, FilterMatcher matcher) {
+            this.type = type;
+            this.generation = generation;
+            this.typeGeneration = typeGeneration;
+            this.matcher = matcher;
+        }
+    }
+
+    /**
+     * The matcher a void chest resolved to, which may be shared with its type, and the chest generation it was
+     * resolved at, so a chest whose own filter was emptied still hits once it resolved to the shared matcher.
+     */
+    private record ChestMatcher(long chestGeneration, @NonNull CachedMatcher cached) {
+    }
+}
@@ -1,12 +1,17 @@
 package com.georgev22.voidchest.api.storage.data.filter;
 
+import com.georgev22.voidchest.api.utilities.ItemFingerprint;
 import de.tr7zw.nbtapi.NBT;
 import de.tr7zw.nbtapi.iface.ReadableNBT;
 import org.bukkit.inventory.ItemStack;
+import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
 /**
  * Represents a container for storing an item using its NBT data and associated options.
+ * <p>
+ * The NBT string is parsed at most once per container. The parsed item and its {@link ItemFingerprint}
+ * are cached and shared with clones, and {@link #getItem()} hands out copies of the cached item.
  */
 public class ItemContainer {
 
@@ -20,6 +25,11 @@ public class ItemContainer {
      */
     private final ItemOptions options;
 
+    /**
+     * The lazily parsed item. Not serialized, so deserialized containers start out unparsed.
+     */
+    private transient volatile @Nullable ParsedItem parsed;
+
     /**
      * Constructs an {@code ItemContainer} from an {@link ItemStack} and item options.
      *
@@ -29,6 +39,7 @@ public class ItemContainer {
     public ItemContainer(ItemStack item, ItemOptions options) {
         this.nbt = itemToNBTString(item);
         this.options = options;
+        this.parsed = ParsedItem.of(item.clone());
     }
 
     /**
@@ -42,13 +53,37 @@ public class ItemContainer {
         this.options = options;
     }
 
+    /**
+     * Constructs an {@code ItemContainer} that shares the stored item, and its parsed state, of another container.
+     *
+     * @param source  The container to share the item of.
+     * @param options The options associated with the item.
+     */
+    ItemContainer(@NonNull ItemContainer source, ItemOptions options) {
+        this.nbt = source.nbt;
+        this.options = options;
+        this.parsed = source.parsed;
+    }
+
     /**
      * Retrieves the stored item as an {@link ItemStack}.
+     * <p>
+     * The item is parsed on first access only; every call returns a new copy that can be modified freely.
      *
      * @return The deserialized {@link ItemStack}, or {@code null} if deserialization fails.
      */
     public ItemStack getItem() {
-        return nbtStringToItem(nbt);
+        ItemStack item = parsed().item();
+        return item == null ? null : item.clone();
+    }
+
+    /**
+     * Retrieves the {@link ItemFingerprint} of the stored item.
+     *
+     * @return The fingerprint, or {@link ItemFingerprint#EMPTY} if deserialization fails.
+     */
+    public long getFingerprint() {
+        return parsed().fingerprint();
     }
 
     /**
@@ -69,6 +104,16 @@ public class ItemContainer {
         return options;
     }
 
+    private @NonNull ParsedItem parsed() {
+        ParsedItem parsed = this.parsed;
+        if (parsed == null) {
+            // Racing threads may both parse; the results are equal and either one may be kept.
+            parsed = ParsedItem.of(nbtStringToItem(nbt));
+            this.parsed = parsed;
+        }
+        return parsed;
+    }
+
     /**
      * Converts an {@link ItemStack} to its NBT string representation.
      *
@@ -94,4 +139,14 @@ public class ItemContainer {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * The parsed item together with its fingerprint. The item is never handed out directly.
+     */
+    private record ParsedItem(@Nullable ItemStack item, long fingerprint) {
+
+        private static @NonNull ParsedItem of(@Nullable ItemStack item) {
+            return new ParsedItem(item, ItemFingerprint.of(item));
+        }
+    }
+}
@@ -399,6 +399,7 @@ public abstract class AbstractVoidChest extends Entity {
 
     @Override
     public void postSave() {
+        voidChestAPI.voidChestCacheController().summaryIndex().updateIfPresent(this);
         new VoidChestSaveEvent(this).call();
     }
 
@@ -408,6 +409,7 @@ public abstract class AbstractVoidChest extends Entity {
         Registries.HOLOGRAM.getSelected().ifPresent(hologram -> hologram.remove(this));
         voidChestAPI.timedTaskManager().removeObject(this.getUniqueId());
         voidChestAPI.voidChestCacheController().remove(this);
+        voidChestAPI.filterManager().removeVoidChest(this.getUniqueId());
 
         Optional<EntityManager<AbstractPlayerData>> entityManager = Registries.ENTITY_MANAGER.getTyped(AbstractPlayerData.class);
         if (entityManager.isPresent()) {
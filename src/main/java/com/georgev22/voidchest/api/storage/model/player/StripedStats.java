@@ -0,0 +1,184 @@
+package com.georgev22.voidchest.api.storage.model.player;
+
+import com.georgev22.voidchest.api.utilities.CustomData;
+import com.georgev22.voidchest.api.utilities.StripedDecimalCounter;
+import org.jspecify.annotations.NonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * A {@link Stats} implementation backed by {@link StripedDecimalCounter}s.
+ * <p>
+ * All stored and total counters are striped fixed-point accumulators, so the {@code add*} methods
+ * are safe to call concurrently from several region threads without external synchronization
+ * and without allocating new immutable values on every call.
+ * Reads materialize the {@link BigDecimal} and {@link BigInteger} views on demand.
+ */
+public class StripedStats implements Stats {
+
+    private volatile boolean message = true;
+    private volatile boolean offlineMessage = true;
+    private final StripedDecimalCounter moneyStored = StripedDecimalCounter.money();
+    private final StripedDecimalCounter totalMoneyStored = StripedDecimalCounter.money();
+    private final StripedDecimalCounter itemsSoldStored = StripedDecimalCounter.integer();
+    private final StripedDecimalCounter totalItemsSoldStored = StripedDecimalCounter.integer();
+    private final StripedDecimalCounter itemsPurgedStored = StripedDecimalCounter.integer();
+    private final StripedDecimalCounter totalItemsPurgedStored = StripedDecimalCounter.integer();
+    private final CustomData customData;
+
+    /**
+     * Creates new, empty statistics.
+     */
+    public StripedStats() {
+        this.customData = new CustomData();
+    }
+
+    /**
+     * Creates statistics with the given initial values.
+     *
+     * @param message                Whether messaging is enabled.
+     * @param offlineMessage         Whether offline messaging is enabled.
+     * @param moneyStored            The initial amount of stored money.
+     * @param totalMoneyStored       The initial total amount of stored money.
+     * @param itemsSoldStored        The initial number of stored items sold.
+     * @param totalItemsSoldStored   The initial total number of stored items sold.
+     * @param itemsPurgedStored      The initial number of stored items purged.
+     * @param totalItemsPurgedStored The initial total number of stored items purged.
+     * @param customData             The custom data associated with the statistics.
+     */
+    public StripedStats(boolean message,
+                        boolean offlineMessage,
+                        @NonNull BigDecimal moneyStored,
+                        @NonNull BigDecimal totalMoneyStored,
+                        @NonNull BigInteger itemsSoldStored,
+                        @NonNull BigInteger totalItemsSoldStored,
+                        @NonNull BigInteger itemsPurgedStored,
+                        @NonNull BigInteger totalItemsPurgedStored,
+                        @NonNull CustomData customData) {
+        this.message = message;
+        this.offlineMessage = offlineMessage;
+        this.moneyStored.set(moneyStored);
+        this.totalMoneyStored.set(totalMoneyStored);
+        this.itemsSoldStored.set(itemsSoldStored);
+        this.totalItemsSoldStored.set(totalItemsSoldStored);
+        this.itemsPurgedStored.set(itemsPurgedStored);
+        this.totalItemsPurgedStored.set(totalItemsPurgedStored);
+        this.customData = customData;
+    }
+
+    @Override
+    public boolean message() {
+        return message;
+    }
+
+    @Override
+    public boolean offlineMessage() {
+        return offlineMessage;
+    }
+
+    @Override
+    public void message(boolean message) {
+        this.message = message;
+    }
+
+    @Override
+    public void offlineMessage(boolean offlineMessage) {
+        this.offlineMessage = offlineMessage;
+    }
+
+    @Override
+    public BigDecimal moneyStored() {
+        return moneyStored.value();
+    }
+
+    @Override
+    public void moneyStored(BigDecimal moneyStored) {
+        this.moneyStored.set(moneyStored);
+    }
+
+    @Override
+    public void addMoneyStored(BigDecimal bigDecimal) {
+        this.moneyStored.add(bigDecimal);
+    }
+
+    @Override
+    public BigDecimal totalMoneyStored() {
+        return totalMoneyStored.value();
+    }
+
+    @Override
+    public void totalMoneyStored(BigDecimal moneyStored) {
+        this.totalMoneyStored.set(moneyStored);
+    }
+
+    @Override
+    public void addTotalMoneyStored(BigDecimal bigDecimal) {
+        this.totalMoneyStored.add(bigDecimal);
+    }
+
+    @Override
+    public BigInteger itemsSoldStored() {
+        return itemsSoldStored.bigIntegerValue();
+    }
+
+    @Override
+    public void itemsSoldStored(BigInteger itemsSoldStored) {
+        this.itemsSoldStored.set(itemsSoldStored);
+    }
+
+    @Override
+    public void addItemsSoldStored(BigInteger itemsSoldStored) {
+        this.itemsSoldStored.add(itemsSoldStored);
+    }
+
+    @Override
+    public BigInteger totalItemsSoldStored() {
+        return totalItemsSoldStored.bigIntegerValue();
+    }
+
+    @Override
+    public void totalItemsSoldStored(BigInteger itemsSoldStored) {
+        this.totalItemsSoldStored.set(itemsSoldStored);
+    }
+
+    @Override
+    public void addTotalItemsSoldStored(BigInteger itemsSoldStored) {
+        this.totalItemsSoldStored.add(itemsSoldStored);
+    }
+
+    @Override
+    public BigInteger itemsPurgedStored() {
+        return itemsPurgedStored.bigIntegerValue();
+    }
+
+    @Override
+    public void itemsPurgedStored(BigInteger itemsPurgedStored) {
+        this.itemsPurgedStored.set(itemsPurgedStored);
+    }
+
+    @Override
+    public void addItemsPurgedStored(BigInteger itemsPurgedStored) {
+        this.itemsPurgedStored.add(itemsPurgedStored);
+    }
+
+    @Override
+    public BigInteger totalItemsPurgedStored() {
+        return totalItemsPurgedStored.bigIntegerValue();
+    }
+
+    @Override
+    public void totalItemsPurgedStored(BigInteger itemsPurgedStored) {
+        this.totalItemsPurgedStored.set(itemsPurgedStored);
+    }
+
+    @Override
+    public void addTotalItemsPurgedStored(BigInteger itemsPurgedStored) {
+        this.totalItemsPurgedStored.add(itemsPurgedStored);
+    }
+
+    @Override
+    public CustomData customData() {
+        return customData;
+    }
+}
@@ -0,0 +1,160 @@
+package com.georgev22.voidchest.api.storage.model.voidchest;
+
+import com.georgev22.voidchest.api.utilities.CustomData;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Charge} implementation that stores the charge as an absolute expiry deadline.
+ * <p>
+ * Nothing decrements the charge over time. {@link #hasFuel()}, {@link #chargeTime()} and
+ * {@link #getChargeLeftSeconds()} are computed from the clock on demand, so a charged void chest
+ * costs nothing between events. Components that need to react when the fuel runs out can register
+ * a deadline listener, see {@link #deadlineListener(Consumer)}, and schedule a single callback
+ * at {@link #deadline()}.
+ * <p>
+ * {@link #chargeTime()} still reports the remaining seconds, so persisting it and restoring it with
+ * {@link #chargeTime(long)} keeps the charge paused while the server is offline.
+ */
+public abstract class DeadlineCharge implements Charge {
+
+    private final Clock clock;
+    private final CustomData customData;
+    private volatile long deadline;
+    private final AtomicReference<@Nullable Consumer<DeadlineCharge>> deadlineListener = new AtomicReference<>();
+
+    /**
+     * Creates an empty charge using the system clock.
+     */
+    public DeadlineCharge() {
+        this(Clock.systemUTC(), new CustomData());
+    }
+
+    /**
+     * Creates an empty charge.
+     *
+     * @param clock      The clock used to compute the remaining charge.
+     * @param customData The custom data associated with the charge.
+     */
+    public DeadlineCharge(@NonNull Clock clock, @NonNull CustomData customData) {
+        this.clock = clock;
+        this.customData = customData;
+    }
+
+    /**
+     * Retrieves the moment the fuel runs out, in milliseconds since the Unix epoch.
+     *
+     * @return The expiry deadline, or a value in the past if the void chest has no fuel.
+     */
+    public long deadline() {
+        return deadline;
+    }
+
+    /**
+     * Sets the moment the fuel runs out and notifies the deadline listener.
+     *
+     * @param deadline The expiry deadline in milliseconds since the Unix epoch.
+     */
+    public void deadline(long deadline) {
+        this.deadline = deadline;
+        notifyDeadlineListener();
+    }
+
+    /**
+     * Notifies the deadline listener. Never called while holding the monitor of this charge, since the
+     * listener takes locks of its own.
+     */
+    private void notifyDeadlineListener() {
+        Consumer<DeadlineCharge> listener = deadlineListener.get();
+        if (listener != null) {
+            listener.accept(this);
+        }
+    }
+
+    /**
+     * Sets the listener that is notified every time the deadline changes.
+     * <p>
+     * Only a single listener is kept; it is typically an expiry scheduler.
+     *
+     * @param deadlineListener The listener, or {@code null} to remove it.
+     */
+    public void deadlineListener(@Nullable Consumer<DeadlineCharge> deadlineListener) {
+        this.deadlineListener.set(deadlineListener);
+    }
+
+    /**
+     * Removes the deadline listener, but only if it is still the given one.
+     * <p>
+     * Lets a component unregister itself without unhooking a listener that replaced it in the meantime.
+     *
+     * @param deadlineListener The listener to remove.
+     * @return {@code true} if the listener was removed.
+     */
+    public boolean removeDeadlineListener(@NonNull Consumer<DeadlineCharge> deadlineListener) {
+        return this.deadlineListener.compareAndSet(deadlineListener, null);
+    }
+
+    /**
+     * Retrieves the remaining charge in milliseconds.
+     *
+     * @return The remaining charge in milliseconds, never negative.
+     */
+    public long remainingMillis() {
+        return Math.max(0L, deadline - clock.millis());
+    }
+
+    @Override
+    public boolean canAddCharge(long secondsToAdd) {
+        return chargeTime() + secondsToAdd <= maxTimeInSeconds();
+    }
+
+    @Override
+    public boolean hasFuel() {
+        return !enabled() || deadline > clock.millis();
+    }
+
+    @Override
+    public ChargeResponse chargeResponse() {
+        return hasFuel() ? ChargeResponse.CHARGED : ChargeResponse.NEED_FUEL;
+    }
+
+    @Override
+    public long chargeTime() {
+        return TimeUnit.MILLISECONDS.toSeconds(remainingMillis() + 999L);
+    }
+
+    @Override
+    public void chargeTime(long chargeTime) {
+        deadline(clock.millis() + TimeUnit.SECONDS.toMillis(Math.max(0L, chargeTime)));
+    }
+
+    @Override
+    public void addChargeTime(long secondsToAdd) {
+        synchronized (this) {
+            long now = clock.millis();
+            this.deadline = Math.max(now, deadline) + TimeUnit.SECONDS.toMillis(secondsToAdd);
+        }
+        notifyDeadlineListener();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Computed from the deadline, like {@link #chargeTime()}.
+     */
+    @Override
+    public Long getChargeLeftSeconds() {
+        long chargeTime = chargeTime();
+        return chargeTime >= maxTimeInSeconds() ? null : chargeTime;
+    }
+
+    @Override
+    public CustomData customData() {
+        return customData;
+    }
+}
@@ -0,0 +1,97 @@
+package com.georgev22.voidchest.api.storage.model.voidchest;
+
+import com.georgev22.voidchest.api.utilities.CustomData;
+import com.georgev22.voidchest.api.utilities.StripedDecimalCounter;
+import org.jspecify.annotations.NonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * A {@link Stats} implementation backed by {@link StripedDecimalCounter}s.
+ * <p>
+ * Money and item counters are kept as striped fixed-point accumulators, so
+ * {@link #addMoney(BigDecimal)}, {@link #addItemsSold(BigInteger)} and {@link #addItemsPurged(BigInteger)}
+ * are safe to call concurrently from several region threads without external synchronization
+ * and without allocating new immutable values on every call.
+ * Reads materialize the {@link BigDecimal} and {@link BigInteger} views on demand.
+ */
+public class StripedStats implements Stats {
+
+    private final StripedDecimalCounter money = StripedDecimalCounter.money();
+    private final StripedDecimalCounter itemsSold = StripedDecimalCounter.integer();
+    private final StripedDecimalCounter itemsPurged = StripedDecimalCounter.integer();
+    private final CustomData customData;
+
+    /**
+     * Creates new, empty statistics.
+     */
+    public StripedStats() {
+        this.customData = new CustomData();
+    }
+
+    /**
+     * Creates statistics with the given initial values.
+     *
+     * @param money       The initial amount of money.
+     * @param itemsSold   The initial number of items sold.
+     * @param itemsPurged The initial number of items purged.
+     * @param customData  The custom data associated with the statistics.
+     */
+    public StripedStats(@NonNull BigDecimal money, @NonNull BigInteger itemsSold, @NonNull BigInteger itemsPurged, @NonNull CustomData customData) {
+        this.money.set(money);
+        this.itemsSold.set(itemsSold);
+        this.itemsPurged.set(itemsPurged);
+        this.customData = customData;
+    }
+
+    @Override
+    public BigDecimal money() {
+        return money.value();
+    }
+
+    @Override
+    public void money(BigDecimal money) {
+        this.money.set(money);
+    }
+
+    @Override
+    public void addMoney(BigDecimal money) {
+        this.money.add(money);
+    }
+
+    @Override
+    public BigInteger itemsSold() {
+        return itemsSold.bigIntegerValue();
+    }
+
+    @Override
+    public void itemsSold(BigInteger itemsSold) {
+        this.itemsSold.set(itemsSold);
+    }
+
+    @Override
+    public void addItemsSold(BigInteger itemsSold) {
+        this.itemsSold.add(itemsSold);
+    }
+
+    @Override
+    public BigInteger itemsPurged() {
+        return itemsPurged.bigIntegerValue();
+    }
+
+    @Override
+    public void itemsPurged(BigInteger itemsPurged) {
+        this.itemsPurged.set(itemsPurged);
+    }
+
+    @Override
+    public void addItemsPurged(BigInteger itemsPurged) {
+        this.itemsPurged.add(itemsPurged);
+    }
+
+    @Override
+    public CustomData customData() {
+        return customData;
+    }
+}
@@ -0,0 +1,142 @@
+package com.georgev22.voidchest.api.task;
+
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.storage.model.voidchest.DeadlineCharge;
+import org.jspecify.annotations.NonNull;
+
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Fires a callback at the moment a {@link DeadlineCharge} runs out of fuel.
+ * <p>
+ * Each watched charge owns at most one timeout on a {@link HashedTimingWheel}. Whenever the
+ * charge deadline changes the timeout is replaced, which is O(1), so tens of thousands of charged
+ * void chests cost nothing between events. The expiry callback is where hologram and "no fuel"
+ * state changes belong.
+ */
+public class ChargeExpiryScheduler {
+
+    private final ObjectMap<UUID, Watch> watches = ObjectMaps.newConcurrentHashObjectMap();
+    private final HashedTimingWheel wheel;
+
+    /**
+     * Creates a new scheduler with a one-second resolution.
+     *
+     * @param expiryExecutor The executor that runs expiry callbacks.
+     */
+    public ChargeExpiryScheduler(@NonNull Executor expiryExecutor) {
+        this(new HashedTimingWheel("VoidChest-ChargeExpiry", 1L, TimeUnit.SECONDS, expiryExecutor));
+    }
+
+    /**
+     * Creates a new scheduler backed by the given timing wheel.
+     *
+     * @param wheel The timing wheel used to schedule expiries.
+     */
+    public ChargeExpiryScheduler(@NonNull HashedTimingWheel wheel) {
+        this.wheel = wheel;
+    }
+
+    /**
+     * Starts watching a charge. Any previous watch with the same id is replaced.
+     *
+     * @param id       The id of the owner, usually the void chest UUID.
+     * @param charge   The charge to watch.
+     * @param onExpire The callback to run when the charge runs out of fuel.
+     */
+    public void watch(@NonNull UUID id, @NonNull DeadlineCharge charge, @NonNull Runnable onExpire) {
+        Watch watch = new Watch(charge, onExpire);
+        Watch previous = watches.put(id, watch);
+        if (previous != null) {
+            previous.close();
+        }
+        charge.deadlineListener(watch.listener);
+        watch.reschedule();
+    }
+
+    /**
+     * Stops watching the charge associated with the given id.
+     *
+     * @param id The id of the owner.
+     */
+    public void unwatch(@NonNull UUID id) {
+        Watch watch = watches.remove(id);
+        if (watch != null) {
+            watch.close();
+        }
+    }
+
+    /**
+     * Checks whether a charge is watched for the given id.
+     *
+     * @param id The id of the owner.
+     * @return True if a charge is watched, false otherwise.
+     */
+    public boolean isWatched(@NonNull UUID id) {
+        return watches.containsKey(id);
+    }
+
+    /**
+     * Stops watching all charges and stops the underlying timing wheel.
+     */
+    public void shutdown() {
+        watches.values().forEach(Watch::close);
+        watches.clear();
+        wheel.stop();
+    }
+
+    private final class Watch {
+
+        private final DeadlineCharge charge;
+        private final Runnable onExpire;
+        private final Consumer<DeadlineCharge> listener = changed -> reschedule();
+        private HashedTimingWheel.Timeout timeout;
+        private boolean closed;
+
+        private Watch(DeadlineCharge charge, Runnable onExpire) {
+            this.charge = charge;
+            this.onExpire = onExpire;
+        }
+
+        private synchronized void reschedule() {
+            if (closed) return;
+            if (timeout != null) {
+                timeout.cancel();
+                timeout = null;
+            }
+            long remaining = charge.remainingMillis();
+            if (remaining > 0 && wheel.isRunning()) {
+                timeout = wheel.schedule(this::expire, remaining, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void expire() {
+            synchronized (this) {
+                if (closed || timeout == null || !timeout.isExpired()) return;
+                timeout = null;
+                if (charge.remainingMillis() > 0) {
+                    reschedule();
+                    return;
+                }
+            }
+            onExpire.run();
+        }
+
+        private void close() {
+            synchronized (this) {
+                closed = true;
+                if (timeout != null) {
+                    timeout.cancel();
+                    timeout = null;
+                }
+            }
+            // Outside the lock: the charge notifies this watch while holding none of its own.
+            // A newer watch may have registered its own listener on the same charge.
+            charge.removeDeadlineListener(listener);
+        }
+    }
+}
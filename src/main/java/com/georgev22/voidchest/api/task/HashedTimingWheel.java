@@ -0,0 +1,342 @@
+package com.georgev22.voidchest.api.task;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A hierarchical hashed timing wheel driven by a single ticking thread.
+ * <p>
+ * Timeouts are placed into one of {@value #LEVELS} wheels of {@value #WHEEL_SIZE} buckets each,
+ * depending on how far in the future they expire, and are cascaded into finer wheels as time passes.
+ * Scheduling and cancelling are O(1) and do not create a scheduled future per timeout, so a single
+ * wheel can hold hundreds of thousands of concurrent countdowns.
+ * <p>
+ * All bucket bookkeeping happens on the ticking thread. Other threads only enqueue additions and
+ * cancellations, which the ticking thread applies at the start of the next tick. Timeouts that expire
+ * in the same tick are handed to the expiry {@link Executor} as one batch.
+ */
+public final class HashedTimingWheel {
+
+    private static final Logger LOGGER = Logger.getLogger(HashedTimingWheel.class.getName());
+
+    private static final int BITS = 6;
+    private static final int WHEEL_SIZE = 1 << BITS;
+    private static final int MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN = 1L << (BITS * LEVELS);
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_CANCELLED = 1;
+    private static final int STATE_EXPIRED = 2;
+
+    private final Bucket[][] wheels = new Bucket[LEVELS][WHEEL_SIZE];
+    private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private final long tickNanos;
+    private final Executor expiryExecutor;
+    private final Thread worker;
+    private final long startNanos;
+
+    private volatile boolean running = true;
+    private long tick;
+
+    /**
+     * Creates and starts a new timing wheel.
+     *
+     * @param name           the name of the ticking thread
+     * @param tickDuration   the duration of a single tick
+     * @param unit           the unit of {@code tickDuration}
+     * @param expiryExecutor the executor that runs each batch of expired timeouts
+     * @throws IllegalArgumentException if the tick duration is not positive
+     */
+    public HashedTimingWheel(@NonNull String name, long tickDuration, @NonNull TimeUnit unit, @NonNull Executor expiryExecutor) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive: " + tickDuration);
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            for (int index = 0; index < WHEEL_SIZE; index++) {
+                wheels[level][index] = new Bucket();
+            }
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.expiryExecutor = expiryExecutor;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules the given task to run once after the given delay.
+     *
+     * @param task  the task to run
+     * @param delay the delay before the task runs
+     * @param unit  the unit of {@code delay}
+     * @return a handle that can be used to cancel the task or query its deadline
+     * @throws IllegalStateException if the wheel has been stopped
+     */
+    public @NonNull Timeout schedule(@NonNull Runnable task, long delay, @NonNull TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("Timing wheel has been stopped");
+        }
+        long deadlineNanos = System.nanoTime() + Math.max(0L, unit.toNanos(delay));
+        long elapsed = deadlineNanos - startNanos;
+        long deadlineTick = (elapsed + tickNanos - 1) / tickNanos;
+        Timeout timeout = new Timeout(this, task, deadlineNanos, deadlineTick);
+        pendingTimeouts.incrementAndGet();
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Returns the number of timeouts that are scheduled and have neither expired nor been cancelled.
+     *
+     * @return the number of pending timeouts
+     */
+    public long pendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /**
+     * Returns whether the wheel is still accepting timeouts.
+     *
+     * @return true if the wheel is running, false once {@link #stop()} was called
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops the ticking thread. Pending timeouts are discarded without running.
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+        pendingAdds.clear();
+        pendingTimeouts.set(0L);
+    }
+
+    private void run() {
+        while (running) {
+            long targetTick = (System.nanoTime() - startNanos) / tickNanos;
+            while (tick <= targetTick && running) {
+                long current = tick;
+                try {
+                    processTick();
+                } catch (Throwable throwable) {
+                    // Keep the only ticking thread alive, otherwise every scheduled timeout stops firing
+                    LOGGER.log(Level.SEVERE, "Failed to process timing wheel tick " + current, throwable);
+                    if (tick == current) tick++;
+                }
+            }
+            long sleepNanos = startNanos + tick * tickNanos - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException ignored) {
+                    if (!running) return;
+                }
+            }
+        }
+    }
+
+    private void processTick() {
+        Timeout cancelled;
+        while ((cancelled = pendingCancels.poll()) != null) {
+            if (cancelled.bucket != null) {
+                cancelled.bucket.remove(cancelled);
+            }
+        }
+
+        Timeout added;
+        while ((added = pendingAdds.poll()) != null) {
+            if (added.state.get() == STATE_INIT) {
+                place(added);
+            }
+        }
+
+        int index = (int) (tick & MASK);
+        if (index == 0) {
+            cascade(1);
+        }
+
+        List<Timeout> expired = null;
+        Bucket bucket = wheels[0][index];
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            bucket.remove(timeout);
+            if (timeout.state.compareAndSet(STATE_INIT, STATE_EXPIRED)) {
+                pendingTimeouts.decrementAndGet();
+                if (expired == null) expired = new ArrayList<>();
+                expired.add(timeout);
+            }
+            timeout = next;
+        }
+        tick++;
+
+        if (expired != null) {
+            dispatch(expired);
+        }
+    }
+
+    private void cascade(int level) {
+        if (level >= LEVELS) return;
+        int index = (int) ((tick >>> (BITS * level)) & MASK);
+        if (index == 0) {
+            cascade(level + 1);
+        }
+        Bucket bucket = wheels[level][index];
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            bucket.remove(timeout);
+            if (timeout.state.get() == STATE_INIT) {
+                place(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void place(@NonNull Timeout timeout) {
+        long expires = timeout.deadlineTick;
+        long delta = expires - tick;
+        if (delta < 0) {
+            wheels[0][(int) (tick & MASK)].add(timeout);
+            return;
+        }
+        if (delta >= MAX_SPAN) {
+            expires = tick + MAX_SPAN - 1;
+            delta = MAX_SPAN - 1;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) {
+            level++;
+        }
+        wheels[level][(int) ((expires >>> (BITS * level)) & MASK)].add(timeout);
+    }
+
+    private void dispatch(@NonNull List<Timeout> expired) {
+        try {
+            expiryExecutor.execute(() -> {
+                for (Timeout timeout : expired) {
+                    try {
+                        timeout.task.run();
+                    } catch (Throwable throwable) {
+                        LOGGER.log(Level.WARNING, "A timing wheel task threw an exception", throwable);
+                    }
+                }
+            });
+        } catch (Throwable throwable) {
+            LOGGER.log(Level.WARNING, "Failed to dispatch " + expired.size() + " expired timing wheel task(s)", throwable);
+        }
+    }
+
+    /**
+     * A handle to a task scheduled on a {@link HashedTimingWheel}.
+     */
+    public static final class Timeout {
+
+        private final HashedTimingWheel wheel;
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final long deadlineTick;
+        private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+
+        private @Nullable Bucket bucket;
+        private @Nullable Timeout prev;
+        private @Nullable Timeout next;
+
+        private Timeout(HashedTimingWheel wheel, Runnable task, long deadlineNanos, long deadlineTick) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+            this.deadlineTick = deadlineTick;
+        }
+
+        /**
+         * Cancels this timeout. Has no effect if it already expired or was cancelled.
+         *
+         * @return true if this call cancelled the timeout, false otherwise
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(STATE_INIT, STATE_CANCELLED)) {
+                return false;
+            }
+            wheel.pendingTimeouts.decrementAndGet();
+            wheel.pendingCancels.add(this);
+            return true;
+        }
+
+        /**
+         * Returns the remaining time until this timeout expires.
+         *
+         * @param unit the unit of the returned value
+         * @return the remaining time, never negative
+         */
+        public long remaining(@NonNull TimeUnit unit) {
+            return unit.convert(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * @return true if this timeout was cancelled
+         */
+        public boolean isCancelled() {
+            return state.get() == STATE_CANCELLED;
+        }
+
+        /**
+         * @return true if this timeout expired and its task was handed to the expiry executor
+         */
+        public boolean isExpired() {
+            return state.get() == STATE_EXPIRED;
+        }
+    }
+
+    private static final class Bucket {
+
+        private @Nullable Timeout head;
+        private @Nullable Timeout tail;
+
+        private void add(@NonNull Timeout timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                tail = timeout;
+            }
+        }
+
+        private void remove(@NonNull Timeout timeout) {
+            if (timeout.bucket != this) return;
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.georgev22.voidchest.api.task;
+
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import com.georgev22.voidchest.api.task.tasks.ITimedTask;
+import com.georgev22.voidchest.api.task.tasks.WheelTimedTask;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link ITimedTaskManager} backed by a single {@link HashedTimingWheel}.
+ * <p>
+ * Every managed task is a {@link WheelTimedTask}, so adding, cancelling, stopping and resuming a task
+ * are O(1) operations and no scheduled future is created per task. One ticking thread drives any
+ * number of countdowns; tasks that expire in the same tick are handed to {@link #getScheduler()}
+ * as a single batch.
+ * <p>
+ * Tasks added through {@link #addObject(ITimedTask)} that are not {@link WheelTimedTask}s are wrapped,
+ * and their {@link ITimedTask#triggerAction()} is invoked when the wheel countdown expires.
+ * The wrapper is what {@link #getTask(UUID)} and {@link #getActiveObjects()} return.
+ */
+public class TimingWheelTaskManager implements ITimedTaskManager {
+
+    private final ObjectMap<UUID, ITimedTask> activeObjects = ObjectMaps.newConcurrentHashObjectMap();
+    private final ScheduledExecutorService scheduler;
+    private final HashedTimingWheel wheel;
+
+    /**
+     * Creates a new task manager with a 100 millisecond wheel resolution and a scheduler
+     * sized to the number of available processors.
+     */
+    public TimingWheelTaskManager() {
+        this(Executors.newScheduledThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors() / 2)), 100L, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a new task manager.
+     *
+     * @param scheduler    The executor that runs expired task batches. It is also exposed through {@link #getScheduler()}.
+     * @param tickDuration The resolution of the timing wheel.
+     * @param unit         The unit of {@code tickDuration}.
+     */
+    public TimingWheelTaskManager(@NonNull ScheduledExecutorService scheduler, long tickDuration, @NonNull TimeUnit unit) {
+        this.scheduler = scheduler;
+        this.wheel = new HashedTimingWheel("VoidChest-TimingWheel", tickDuration, unit, scheduler);
+    }
+
+    @Override
+    public UUID addObject(ITimedTask task) {
+        ITimedTask wheelTask = task instanceof WheelTimedTask
+                ? task
+                : new WheelTimedTask(task.getId(), wheel, task::triggerAction, task.getInitialCountdown());
+        ITimedTask previous = activeObjects.put(wheelTask.getId(), wheelTask);
+        if (previous != null && previous != wheelTask) {
+            previous.cancel();
+        }
+        return wheelTask.getId();
+    }
+
+    @Override
+    public UUID addObject(UUID id, Runnable runnable, int initialCountdown) {
+        return addObject(new WheelTimedTask(id, wheel, runnable, initialCountdown));
+    }
+
+    @Override
+    public UUID addObjectAndStart(@NonNull ITimedTask task) {
+        UUID id = addObject(task);
+        start(id);
+        return id;
+    }
+
+    @Override
+    public UUID addObjectAndStart(UUID id, Runnable runnable, int initialCountdown) {
+        addObject(id, runnable, initialCountdown);
+        start(id);
+        return id;
+    }
+
+    @Override
+    public void start(UUID id) {
+        ITimedTask task = activeObjects.get(id);
+        if (task != null) task.startCountdown();
+    }
+
+    @Override
+    public void removeObject(UUID id) {
+        ITimedTask task = activeObjects.remove(id);
+        if (task != null) task.cancel();
+    }
+
+    @Override
+    public void stopObject(UUID id) {
+        ITimedTask task = activeObjects.get(id);
+        if (task != null) task.stop();
+    }
+
+    @Override
+    public void cancelObject(UUID id) {
+        ITimedTask task = activeObjects.get(id);
+        if (task != null) task.cancel();
+    }
+
+    @Override
+    public void resumeObject(UUID id) {
+        ITimedTask task = activeObjects.get(id);
+        if (task != null) task.resume();
+    }
+
+    @Override
+    public void startAll() {
+        activeObjects.values().forEach(ITimedTask::startCountdown);
+    }
+
+    @Override
+    public void stopAll() {
+        activeObjects.values().forEach(ITimedTask::stop);
+    }
+
+    @Override
+    public void cancelAll() {
+        activeObjects.values().forEach(ITimedTask::cancel);
+    }
+
+    @Override
+    public void resumeAll() {
+        activeObjects.values().forEach(ITimedTask::resume);
+    }
+
+    @Override
+    public @Nullable ITimedTask getTask(UUID id) {
+        return activeObjects.get(id);
+    }
+
+    @Override
+    public @UnmodifiableView Map<UUID, ITimedTask> getActiveObjects() {
+        return Collections.unmodifiableMap(activeObjects);
+    }
+
+    @Override
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Retrieves the timing wheel that drives the countdowns of this manager.
+     *
+     * @return The timing wheel.
+     */
+    public HashedTimingWheel getWheel() {
+        return wheel;
+    }
+
+    @Override
+    public void shutdown() {
+        cancelAll();
+        activeObjects.clear();
+        wheel.stop();
+        scheduler.shutdown();
+    }
+}
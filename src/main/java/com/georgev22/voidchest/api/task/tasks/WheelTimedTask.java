@@ -0,0 +1,143 @@
+package com.georgev22.voidchest.api.task.tasks;
+
+import com.georgev22.voidchest.api.task.HashedTimingWheel;
+import com.georgev22.voidchest.api.task.HashedTimingWheel.Timeout;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link ITimedTask} whose countdown is driven by a {@link HashedTimingWheel}.
+ * <p>
+ * Instead of decrementing a counter every second, the task keeps a single wheel timeout that
+ * expires when the countdown reaches zero. When it fires, the action is triggered and the countdown
+ * restarts from {@link #getInitialCountdown()} until the task is stopped or cancelled.
+ * Stopping remembers the remaining time so that {@link #resume()} continues where it left off.
+ */
+public class WheelTimedTask implements ITimedTask {
+
+    private final UUID id;
+    private final HashedTimingWheel wheel;
+    private final Runnable action;
+    private volatile int initialCountdown;
+    private @Nullable Timeout timeout;
+    private long pausedRemainingMillis = -1L;
+    private boolean cancelled;
+    private boolean triggering;
+
+    /**
+     * Creates a new wheel-driven timed task. The countdown is not started.
+     *
+     * @param id               The UUID of the task.
+     * @param wheel            The timing wheel that drives the countdown.
+     * @param action           The action to execute each time the countdown reaches zero.
+     * @param initialCountdown The initial countdown duration in seconds.
+     */
+    public WheelTimedTask(@NonNull UUID id, @NonNull HashedTimingWheel wheel, @NonNull Runnable action, int initialCountdown) {
+        this.id = id;
+        this.wheel = wheel;
+        this.action = action;
+        this.initialCountdown = initialCountdown;
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public int getInitialCountdown() {
+        return initialCountdown;
+    }
+
+    @Override
+    public synchronized void startCountdown() {
+        if (cancelled || timeout != null) return;
+        pausedRemainingMillis = -1L;
+        arm(TimeUnit.SECONDS.toMillis(initialCountdown));
+    }
+
+    @Override
+    public void triggerAction() {
+        action.run();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (triggering) {
+            pausedRemainingMillis = TimeUnit.SECONDS.toMillis(initialCountdown);
+            return;
+        }
+        if (timeout == null) return;
+        pausedRemainingMillis = timeout.remaining(TimeUnit.MILLISECONDS);
+        timeout.cancel();
+        timeout = null;
+    }
+
+    @Override
+    public synchronized void resume() {
+        if (cancelled || timeout != null) return;
+        arm(pausedRemainingMillis >= 0 ? pausedRemainingMillis : TimeUnit.SECONDS.toMillis(initialCountdown));
+        pausedRemainingMillis = -1L;
+    }
+
+    @Override
+    public synchronized void cancel() {
+        cancelled = true;
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
+        }
+    }
+
+    @Override
+    public void setInitialCountdown(int initialCountdown) {
+        this.initialCountdown = initialCountdown;
+    }
+
+    @Override
+    public synchronized Integer getRemainingTime() {
+        if (timeout != null) {
+            return (int) ((timeout.remaining(TimeUnit.MILLISECONDS) + 999L) / 1000L);
+        }
+        if (pausedRemainingMillis >= 0) {
+            return (int) ((pausedRemainingMillis + 999L) / 1000L);
+        }
+        return initialCountdown;
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return timeout != null;
+    }
+
+    private void arm(long delayMillis) {
+        if (!wheel.isRunning()) return;
+        timeout = wheel.schedule(this::expire, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void expire() {
+        synchronized (this) {
+            if (cancelled || timeout == null || !timeout.isExpired()) return;
+            timeout = null;
+            triggering = true;
+        }
+        try {
+            triggerAction();
+        } finally {
+            synchronized (this) {
+                triggering = false;
+                if (!cancelled && timeout == null && pausedRemainingMillis < 0) {
+                    arm(TimeUnit.SECONDS.toMillis(initialCountdown));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.georgev22.voidchest.api.utilities;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Computes cheap, amount-independent fingerprints of {@link ItemStack}s.
+ * <p>
+ * A fingerprint packs the material ordinal into the high 32 bits and the item meta hash into
+ * the low 32 bits. Two stacks that are {@link ItemStack#isSimilar(ItemStack) similar} always have the
+ * same fingerprint; the reverse is only true with high probability, so fingerprints are suitable as
+ * hash keys but a match must be confirmed with {@link ItemStack#isSimilar(ItemStack)} when exactness matters.
+ * <p>
+ * Stacks without item meta, such as most mob drops, are fingerprinted without copying any meta.
+ */
+public final class ItemFingerprint {
+
+    /**
+     * The fingerprint of a {@code null} or air stack.
+     */
+    public static final long EMPTY = -1L;
+
+    private ItemFingerprint() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    /**
+     * Computes the fingerprint of the given stack.
+     *
+     * @param item the item stack
+     * @return the fingerprint, or {@link #EMPTY} for {@code null} or air
+     */
+    public static long of(@Nullable ItemStack item) {
+        if (item == null) return EMPTY;
+        Material type = item.getType();
+        if (type.isAir()) return EMPTY;
+        int metaHash = item.hasItemMeta() ? item.getItemMeta().hashCode() : 0;
+        return pack(type, metaHash);
+    }
+
+    /**
+     * Computes the fingerprint of a stack of the given material without item meta.
+     *
+     * @param type the material
+     * @return the fingerprint
+     */
+    public static long of(@NonNull Material type) {
+        return pack(type, 0);
+    }
+
+    /**
+     * Extracts the material ordinal from a fingerprint.
+     *
+     * @param fingerprint the fingerprint
+     * @return the material ordinal, or {@code -1} for {@link #EMPTY}
+     */
+    public static int materialOrdinal(long fingerprint) {
+        return fingerprint == EMPTY ? -1 : (int) (fingerprint >>> 32);
+    }
+
+    private static long pack(@NonNull Material type, int metaHash) {
+        return ((long) type.ordinal() << 32) | (metaHash & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,245 @@
+package com.georgev22.voidchest.api.utilities;
+
+import org.jspecify.annotations.NonNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe, low-contention counter for monetary values and item counts.
+ * <p>
+ * Additions are stored as fixed-point units (the value multiplied by {@code 10^scale}) inside a
+ * striped {@link LongAdder}, so concurrent writers from different region threads do not contend on
+ * a single memory location and no immutable {@link BigDecimal} is allocated on the hot path.
+ * Additions that cannot be represented exactly at the configured scale, or that are too large for
+ * the fast path, are folded into a {@link BigDecimal} overflow value instead, so no precision is lost.
+ * <p>
+ * Reads materialize a {@link BigDecimal} view by combining the overflow value with the current sum
+ * of the striped cells. Reads are not atomic with respect to concurrent additions, but every addition
+ * is eventually observed.
+ *
+ * <pre>{@code
+ * StripedDecimalCounter money = StripedDecimalCounter.money();
+ * money.add(new BigDecimal("12.5"));
+ * BigDecimal total = money.value();
+ * }</pre>
+ */
+public final class StripedDecimalCounter {
+
+    /**
+     * The default fixed-point scale used for monetary values.
+     */
+    public static final int DEFAULT_MONEY_SCALE = 6;
+
+    /**
+     * The largest absolute number of units a single addition may carry on the fast path.
+     * Bounding single additions keeps the striped sum far away from {@link Long#MAX_VALUE}
+     * between two drains.
+     */
+    private static final long FAST_PATH_LIMIT = 1L << 40;
+
+    /**
+     * Once the striped sum exceeds this absolute value it is drained into the overflow value.
+     */
+    private static final long DRAIN_THRESHOLD = 1L << 61;
+
+    /**
+     * One in this many fast-path additions checks whether a drain is required.
+     */
+    private static final int DRAIN_CHECK_MASK = (1 << 12) - 1;
+
+    private final int scale;
+    private final LongAdder units = new LongAdder();
+    private final AtomicReference<BigDecimal> overflow;
+
+    /**
+     * Creates a new counter with the given fixed-point scale and an initial value of zero.
+     *
+     * @param scale the number of decimal digits kept on the fast path, must not be negative
+     * @throws IllegalArgumentException if the scale is negative
+     */
+    public StripedDecimalCounter(int scale) {
+        if (scale < 0) {
+            throw new IllegalArgumentException("Scale must not be negative: " + scale);
+        }
+        this.scale = scale;
+        this.overflow = new AtomicReference<>(BigDecimal.ZERO.setScale(scale));
+    }
+
+    /**
+     * Creates a new counter with the given fixed-point scale and initial value.
+     *
+     * @param scale        the number of decimal digits kept on the fast path, must not be negative
+     * @param initialValue the initial value of the counter
+     * @throws IllegalArgumentException if the scale is negative
+     */
+    public StripedDecimalCounter(int scale, @NonNull BigDecimal initialValue) {
+        this(scale);
+        this.overflow.set(initialValue);
+    }
+
+    /**
+     * Creates a counter suitable for monetary values, using {@link #DEFAULT_MONEY_SCALE}.
+     *
+     * @return a new money counter with a value of zero
+     */
+    public static @NonNull StripedDecimalCounter money() {
+        return new StripedDecimalCounter(DEFAULT_MONEY_SCALE);
+    }
+
+    /**
+     * Creates a counter suitable for whole item counts (scale {@code 0}).
+     *
+     * @return a new integer counter with a value of zero
+     */
+    public static @NonNull StripedDecimalCounter integer() {
+        return new StripedDecimalCounter(0);
+    }
+
+    /**
+     * Returns the fixed-point scale of this counter.
+     *
+     * @return the scale
+     */
+    public int scale() {
+        return scale;
+    }
+
+    /**
+     * Adds the given amount to this counter.
+     *
+     * @param amount the amount to add
+     */
+    public void add(@NonNull BigDecimal amount) {
+        if (amount.signum() == 0) return;
+        if (amount.scale() <= scale) {
+            BigInteger unscaled = amount.scale() == scale
+                    ? amount.unscaledValue()
+                    : amount.setScale(scale).unscaledValue();
+            if (unscaled.bitLength() < 63) {
+                long value = unscaled.longValue();
+                if (value > -FAST_PATH_LIMIT && value < FAST_PATH_LIMIT) {
+                    addUnits(value);
+                    return;
+                }
+            }
+        }
+        overflow.accumulateAndGet(amount, BigDecimal::add);
+    }
+
+    /**
+     * Adds the given whole amount to this counter.
+     *
+     * @param amount the amount to add
+     */
+    public void add(@NonNull BigInteger amount) {
+        if (scale == 0 && amount.bitLength() < 41) {
+            long value = amount.longValue();
+            if (value != 0) addUnits(value);
+            return;
+        }
+        add(new BigDecimal(amount));
+    }
+
+    /**
+     * Adds the given whole amount to this counter.
+     *
+     * @param amount the amount to add
+     */
+    public void add(long amount) {
+        if (amount == 0) return;
+        if (scale == 0 && amount > -FAST_PATH_LIMIT && amount < FAST_PATH_LIMIT) {
+            addUnits(amount);
+            return;
+        }
+        add(BigDecimal.valueOf(amount));
+    }
+
+    /**
+     * Replaces the value of this counter.
+     * <p>
+     * Additions that run concurrently with this method may be applied either before or after
+     * the new value is set.
+     *
+     * @param value the new value
+     */
+    public void set(@NonNull BigDecimal value) {
+        units.reset();
+        overflow.set(value);
+    }
+
+    /**
+     * Replaces the value of this counter with a whole value.
+     *
+     * @param value the new value
+     */
+    public void set(@NonNull BigInteger value) {
+        set(new BigDecimal(value));
+    }
+
+    /**
+     * Resets this counter to zero.
+     */
+    public void reset() {
+        set(BigDecimal.ZERO.setScale(scale));
+    }
+
+    /**
+     * Materializes the current value of this counter.
+     *
+     * @return the current value as a BigDecimal
+     */
+    public @NonNull BigDecimal value() {
+        BigDecimal base = overflow.get();
+        long sum = units.sum();
+        return sum == 0 ? base : base.add(BigDecimal.valueOf(sum, scale));
+    }
+
+    /**
+     * Materializes the current value of this counter as a whole number.
+     * Any fractional part is discarded.
+     *
+     * @return the current value as a BigInteger
+     */
+    public @NonNull BigInteger bigIntegerValue() {
+        if (scale == 0) {
+            BigDecimal base = overflow.get();
+            long sum = units.sum();
+            BigInteger whole = base.toBigInteger();
+            return sum == 0 ? whole : whole.add(BigInteger.valueOf(sum));
+        }
+        return value().toBigInteger();
+    }
+
+    /**
+     * Moves the current striped sum into the overflow value.
+     * <p>
+     * This is called automatically when the striped sum grows large, but callers may also invoke
+     * it before persisting, to keep the striped cells small.
+     */
+    public void drain() {
+        long drained = units.sumThenReset();
+        if (drained != 0) {
+            BigDecimal delta = BigDecimal.valueOf(drained, scale);
+            overflow.accumulateAndGet(delta, BigDecimal::add);
+        }
+    }
+
+    private void addUnits(long value) {
+        units.add(value);
+        if ((ThreadLocalRandom.current().nextInt() & DRAIN_CHECK_MASK) == 0) {
+            long sum = units.sum();
+            if (sum > DRAIN_THRESHOLD || sum < -DRAIN_THRESHOLD) {
+                drain();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return value().toPlainString();
+    }
+}
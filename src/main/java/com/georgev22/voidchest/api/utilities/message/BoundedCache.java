@@ -0,0 +1,75 @@
+package com.georgev22.voidchest.api.utilities.message;
+
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A thread-safe cache that keeps at most a fixed number of entries, dropping the least recently used ones
+ * when it grows past that number.
+ * <p>
+ * Lookups do not lock. Recency is tracked per insertion, so entries read between two insertions count as
+ * equally recent, which is close enough to least recently used for parse caches.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+final class BoundedCache<K, V> {
+
+    private final int capacity;
+    private final ObjectMap<K, Entry<V>> entries = ObjectMaps.newConcurrentHashObjectMap();
+    private final AtomicLong clock = new AtomicLong();
+
+    BoundedCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Nullable V get(@NonNull K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.lastUsed = clock.get();
+        return entry.value;
+    }
+
+    void put(@NonNull K key, @NonNull V value) {
+        entries.put(key, new Entry<>(value, clock.incrementAndGet()));
+        if (entries.size() > capacity) {
+            evict();
+        }
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Drops the least recently used entries down to three quarters of the capacity, so eviction runs once per many insertions.
+     */
+    private synchronized void evict() {
+        int size = entries.size();
+        if (size <= capacity) return;
+        long[] lastUsed = entries.values().stream().mapToLong(entry -> entry.lastUsed).toArray();
+        if (lastUsed.length == 0) return;
+        Arrays.sort(lastUsed);
+        int drop = Math.clamp(size - capacity + capacity / 4, 1, lastUsed.length);
+        long threshold = lastUsed[drop - 1];
+        entries.values().removeIf(entry -> entry.lastUsed <= threshold);
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private volatile long lastUsed;
+
+        private Entry(@NonNull V value, long lastUsed) {
+            this.value = value;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.georgev22.voidchest.api.utilities.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.TextReplacementConfig;
+import net.kyori.adventure.text.event.HoverEvent;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A message template parsed once, with its placeholders left as slots in the parsed {@link Component}.
+ * <p>
+ * Rendering inserts the placeholder values into the slots as plain text instead of parsing the whole string again.
+ * This is only equivalent to parsing the rendered string when the placeholders appear in text, outside of tags,
+ * and when the values carry no formatting of their own. Otherwise, rendering falls back to
+ * {@link MessageParser#miniMessage(String, net.kyori.adventure.text.minimessage.tag.resolver.TagResolver)}
+ * on the rendered string, so the result is the same either way.
+ * <p>
+ * Tags that change the text they wrap, like {@code <gradient>}, {@code <rainbow>} and {@code <transition>},
+ * split or restyle it per character, so templates using them are never slotted.
+ * <p>
+ * Templates are cached by their source string through {@link #compile(String)}; only the most recently used
+ * templates are kept.
+ */
+public final class ComponentTemplate {
+
+    private static final int MAX_CACHED = 1024;
+
+    private static final BoundedCache<String, ComponentTemplate> CACHE = new BoundedCache<>(MAX_CACHED);
+
+    private static final char SLOT_START = '\uE000';
+    private static final char SLOT_END = '\uE001';
+    private static final Pattern SLOT_PATTERN = Pattern.compile(SLOT_START + "(\\d+)" + SLOT_END);
+    private static final Pattern TEXT_MODIFYING_TAG = Pattern.compile("<(gradient|rainbow|transition)\\b");
+
+    private final PlaceholderTemplate template;
+    private final @Nullable Component parsed;
+
+    private ComponentTemplate(@NonNull PlaceholderTemplate template, @Nullable Component parsed) {
+        this.template = template;
+        this.parsed = parsed;
+    }
+
+    /**
+     * Retrieves the compiled template of the given string, compiling and caching it if needed.
+     *
+     * @param source The template string.
+     * @return The compiled template.
+     */
+    public static @NonNull ComponentTemplate compile(@NonNull String source) {
+        ComponentTemplate template = CACHE.get(source);
+        if (template != null) {
+            return template;
+        }
+        PlaceholderTemplate placeholderTemplate = PlaceholderTemplate.compile(source);
+        template = new ComponentTemplate(placeholderTemplate, parseWithSlots(placeholderTemplate));
+        CACHE.put(source, template);
+        return template;
+    }
+
+    /**
+     * Removes every cached template.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Checks whether this template is rendered by filling slots rather than by parsing the rendered string.
+     *
+     * @return {@code true} if the template was parsed with slots.
+     */
+    public boolean isSlotted() {
+        return parsed != null;
+    }
+
+    /**
+     * Renders this template with the given placeholders.
+     *
+     * @param placeholders The placeholder values by key, e.g. {@code %player%}. Can be null.
+     * @param ignoreCase   Whether placeholder keys are matched ignoring case.
+     * @return The rendered component.
+     */
+    public @NonNull Component render(@Nullable Map<String, String> placeholders, boolean ignoreCase) {
+        Component parsed = this.parsed;
+        if (parsed == null
+                || (placeholders != null && !PlaceholderTemplate.allSegmentKeys(placeholders.keySet()))) {
+            return MessageParser.miniMessage(template.render(placeholders, ignoreCase), null);
+        }
+        if (template.isConstant()) {
+            return parsed;
+        }
+        String[] values = template.values(placeholders, ignoreCase);
+        if (values == null) {
+            return MessageParser.miniMessage(template.render(placeholders, ignoreCase), null);
+        }
+        for (String value : values) {
+            if (!isPlainText(value)) {
+                return MessageParser.miniMessage(template.render(placeholders, ignoreCase), null);
+            }
+        }
+        return parsed.replaceText(TextReplacementConfig.builder()
+                .match(SLOT_PATTERN)
+                .replacement((match, builder) -> builder.content(values[Integer.parseInt(match.group(1))]))
+                .build());
+    }
+
+    /**
+     * Parses the template with a marker in place of each placeholder, or returns {@code null} if slots
+     * would not give the same result as parsing the rendered string.
+     */
+    private static @Nullable Component parseWithSlots(@NonNull PlaceholderTemplate template) {
+        String source = template.getSource();
+        if (template.isConstant()) {
+            return MessageParser.miniMessage(source, null);
+        }
+        if (template.hasSwitches() || source.indexOf(SLOT_START) != -1 || source.indexOf(SLOT_END) != -1) {
+            return null;
+        }
+        String marked = template.join(index -> SLOT_START + Integer.toString(index) + SLOT_END);
+        if (MessageParser.MINI_TAG_PATTERN.matcher(marked).results()
+                .anyMatch(tag -> tag.group().indexOf(SLOT_START) != -1)) {
+            return null;
+        }
+        for (int i = marked.indexOf(SLOT_START, 1); i != -1; i = marked.indexOf(SLOT_START, i + 1)) {
+            // A legacy color character right before a slot would swallow the marker.
+            char before = marked.charAt(i - 1);
+            if (before == '&' || before == '§') return null;
+        }
+        if (TEXT_MODIFYING_TAG.matcher(marked.toLowerCase(Locale.ROOT)).find()) {
+            return null;
+        }
+        Component parsed = MessageParser.parse(marked, null);
+        BitSet slots = new BitSet();
+        if (!collectSlots(parsed, slots) || slots.cardinality() != count(marked, SLOT_START)) {
+            return null;
+        }
+        return parsed;
+    }
+
+    /**
+     * Collects the slots found in the text of the component and its children and hover texts.
+     *
+     * @return {@code false} if a marker was split, altered or found twice, so filling slots would not match.
+     */
+    private static boolean collectSlots(@NonNull Component component, @NonNull BitSet slots) {
+        if (component instanceof TextComponent text) {
+            String content = text.content();
+            int markers = 0;
+            Matcher matcher = SLOT_PATTERN.matcher(content);
+            while (matcher.find()) {
+                int slot = Integer.parseInt(matcher.group(1));
+                if (slots.get(slot)) return false;
+                slots.set(slot);
+                markers++;
+            }
+            if (markers != count(content, SLOT_START) || markers != count(content, SLOT_END)) {
+                return false;
+            }
+        }
+        HoverEvent<?> hoverEvent = component.hoverEvent();
+        if (hoverEvent != null && hoverEvent.value() instanceof Component hoverText && !collectSlots(hoverText, slots)) {
+            return false;
+        }
+        for (Component child : component.children()) {
+            if (!collectSlots(child, slots)) return false;
+        }
+        return true;
+    }
+
+    private static int count(@NonNull String text, char c) {
+        int count = 0;
+        for (int i = text.indexOf(c); i != -1; i = text.indexOf(c, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Checks whether the value would be parsed to the same text, without formatting.
+     */
+    private static boolean isPlainText(@NonNull String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '<' || c == '>' || c == '&' || c == '§' || c == '\\' || c == SLOT_START || c == SLOT_END) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -63,6 +63,7 @@ public class MessageBuilder {
     private ClickEvent currentClickEvent;
     private HoverEvent<?> currentHoverEvent;
     private Placeholder placeholder = new Placeholder();
+    private boolean sharedPlaceholder;
 
     /**
      * Constructs a new MessageBuilder instance.
@@ -300,11 +301,8 @@ public class MessageBuilder {
      * @return The constructed Component.
      */
     public Component build() {
-        return MessageParser.miniMessage(
-                this.placeholder.resolve(
-                        MiniMessage.miniMessage().serialize(componentBuilder.build())
-                ),
-                TagResolver.empty()
+        return this.placeholder.resolveComponent(
+                MiniMessage.miniMessage().serialize(componentBuilder.build())
         );
     }
 
@@ -408,9 +406,33 @@ public class MessageBuilder {
     public MessageBuilder reset() {
         this.componentBuilder = Component.text();
         this.placeholder = new Placeholder();
+        this.sharedPlaceholder = false;
         return this.resetStyles();
     }
 
+    /**
+     * Uses the given {@link Placeholder} as is instead of merging it into a new one, e.g. a snapshot shared
+     * by all the lines of a menu render.
+     * <p>
+     * The given instance is never modified: adding placeholders, states or a target afterwards works on a copy.
+     *
+     * @param placeholder The {@link Placeholder} instance to use.
+     * @return The current {@link MessageBuilder} instance for method chaining.
+     */
+    public MessageBuilder sharedPlaceholders(@NonNull Placeholder placeholder) {
+        this.placeholder = placeholder;
+        this.sharedPlaceholder = true;
+        return this;
+    }
+
+    private @NonNull Placeholder mutablePlaceholder() {
+        if (sharedPlaceholder) {
+            this.placeholder = this.placeholder.shallowCopy();
+            this.sharedPlaceholder = false;
+        }
+        return this.placeholder;
+    }
+
     /**
      * Sets the target {@link ServerOperator} for PlaceholderAPI integration.
      * <p>
@@ -420,7 +442,7 @@ public class MessageBuilder {
      * @return The current {@link MessageBuilder} instance for method chaining.
      */
     public MessageBuilder placeholderContext(@Nullable ServerOperator target) {
-        this.placeholder.setTarget(target);
+        mutablePlaceholder().setTarget(target);
         return this;
     }
 
@@ -437,7 +459,7 @@ public class MessageBuilder {
      * @return The current {@link MessageBuilder} instance for method chaining.
      */
     public MessageBuilder addPlaceholder(@NonNull String key, @NonNull String value) {
-        this.placeholder.addPlaceholder(key, value);
+        mutablePlaceholder().addPlaceholder(key, value);
         return this;
     }
 
@@ -456,7 +478,7 @@ public class MessageBuilder {
      * @return The current {@link MessageBuilder} instance for method chaining.
      */
     public MessageBuilder addStates(@NonNull Map<String, Boolean> states) {
-        this.placeholder.addStates(states);
+        mutablePlaceholder().addStates(states);
         return this;
     }
 
@@ -475,7 +497,7 @@ public class MessageBuilder {
      * @return The current {@link MessageBuilder} instance for method chaining.
      */
     public MessageBuilder addState(@NonNull String key, boolean state) {
-        this.placeholder.addState(key, state);
+        mutablePlaceholder().addState(key, state);
         return this;
     }
 
@@ -491,7 +513,7 @@ public class MessageBuilder {
         if (placeholder == null) {
             return this;
         }
-        this.placeholder.merge(placeholder);
+        mutablePlaceholder().merge(placeholder);
         return this;
     }
 
@@ -508,7 +530,7 @@ public class MessageBuilder {
      * @return The current {@link MessageBuilder} instance for method chaining.
      */
     public MessageBuilder placeholders(@NonNull Map<String, String> placeholders) {
-        this.placeholder.addPlaceholders(placeholders);
+        mutablePlaceholder().addPlaceholders(placeholders);
         return this;
     }
 }
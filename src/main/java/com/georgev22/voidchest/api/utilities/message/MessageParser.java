@@ -7,12 +7,21 @@ import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class MessageParser {
 
-    private static final Pattern MINI_TAG_PATTERN = Pattern.compile("<[^>]+>");
+    private static final int MAX_CACHED_COMPONENTS = 2048;
+
+    /**
+     * Components parsed without a tag resolver, by input. Components are immutable, so the same instance
+     * can be handed out to every caller.
+     */
+    private static final BoundedCache<String, Component> COMPONENT_CACHE = new BoundedCache<>(MAX_CACHED_COMPONENTS);
+
+    static final Pattern MINI_TAG_PATTERN = Pattern.compile("<[^>]+>");
     private static final Pattern QUOTED_TAG_PATTERN = Pattern.compile(
             "<([a-zA-Z0-9:_-]+):\"((?:[^\"\\\\]|\\\\.)*)\">"
     );
@@ -20,12 +29,64 @@ public class MessageParser {
     /**
      * Parses a string containing legacy Minecraft color codes and MiniMessage tags,
      * converting legacy codes outside tags to MiniMessage format and fixing legacy codes inside quoted tag arguments.
+     * <p>
+     * Without a tag resolver the result is cached by the input, so repeated titles, item names and hologram
+     * lines skip the parser. Only the most recently used components are kept. Inputs parsed with a resolver
+     * are not cached, since resolvers are usually created per call and their tags may resolve differently each time.
      *
      * @param input       the input string containing legacy codes and MiniMessage tags
      * @param tagResolver optional resolver for custom MiniMessage tags, can be null
      * @return the parsed Component
      */
     public static @NonNull Component miniMessage(@NonNull String input, @Nullable TagResolver tagResolver) {
+        if (tagResolver != null) {
+            return parse(input, tagResolver);
+        }
+        Component component = COMPONENT_CACHE.get(input);
+        if (component != null) {
+            return component;
+        }
+        component = parse(input, null);
+        COMPONENT_CACHE.put(input, component);
+        return component;
+    }
+
+    /**
+     * Parses a template whose placeholders are filled in after parsing, see {@link ComponentTemplate}.
+     * <p>
+     * Equivalent to {@code miniMessage(PlaceholderTemplate.compile(template).render(placeholders, ignoreCase), null)},
+     * but templates whose placeholders only appear in text are parsed once, and the values are inserted
+     * into the parsed component.
+     *
+     * @param template     the input string containing legacy codes, MiniMessage tags and placeholders
+     * @param placeholders the placeholder values by key, can be null
+     * @param ignoreCase   whether placeholder keys are matched ignoring case
+     * @return the parsed Component
+     */
+    public static @NonNull Component miniMessage(
+            @NonNull String template,
+            @Nullable Map<String, String> placeholders,
+            boolean ignoreCase
+    ) {
+        return ComponentTemplate.compile(template).render(placeholders, ignoreCase);
+    }
+
+    /**
+     * Removes every cached component and component template.
+     */
+    public static void clearCache() {
+        COMPONENT_CACHE.clear();
+        ComponentTemplate.clearCache();
+    }
+
+    /**
+     * Parses the input without looking at the cache.
+     *
+     * @param input       the input string containing legacy codes and MiniMessage tags
+     * @param tagResolver optional resolver for custom MiniMessage tags, can be null
+     * @return the parsed Component
+     */
+    static @NonNull Component parse(@NonNull String input, @Nullable TagResolver tagResolver) {
         //noinspection UnnecessaryUnicodeEscape
         input = input.replace('\u00A7', '&');
         input = fixLegacyInQuotedText(input);
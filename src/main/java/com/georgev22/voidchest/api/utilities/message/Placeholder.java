@@ -3,6 +3,8 @@ package com.georgev22.voidchest.api.utilities.message;
 import com.georgev22.voidchest.api.datastructures.maps.ConcurrentHashObjectMap;
 import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
 import com.georgev22.voidchest.api.utilities.Copyable;
+import net.kyori.adventure.text.Component;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.permissions.ServerOperator;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -128,6 +130,7 @@ public class Placeholder implements Copyable<Placeholder> {
      *     <li>Inline switches using boolean states (e.g., {autosell:enabled|disabled})</li>
      *     <li>Integrates with PlaceholderAPI if target is set</li>
      * </ul>
+     * <p>Switches and placeholders are resolved in a single pass over the cached {@link PlaceholderTemplate} of the input.</p>
      *
      * @param input The input string containing placeholders and inline switches.
      * @return The resolved string with placeholders replaced.
@@ -136,9 +139,81 @@ public class Placeholder implements Copyable<Placeholder> {
         //noinspection ConstantValue
         if (input == null) return "";
 
-        input = PlaceholderUtils.resolveInlineSwitches(input, states);
+        String resolved = PlaceholderTemplate.compile(input).render(placeholders, states, true);
 
-        return PlaceholderUtils.replace(target, input, placeholders, true);
+        return PlaceholderUtils.replace(target, resolved, null, true);
+    }
+
+    /**
+     * Resolves the given input like {@link #resolve(String)} and parses the result with {@link MessageParser}.
+     * <p>
+     * Unless PlaceholderAPI has to run on the resolved string, the placeholders are inserted into the
+     * cached {@link ComponentTemplate} of the input, so the input is only parsed once.
+     *
+     * @param input The input string containing placeholders, inline switches and MiniMessage tags.
+     * @return The parsed component.
+     */
+    public @NotNull Component resolveComponent(@NonNull String input) {
+        if (target instanceof OfflinePlayer) {
+            return MessageParser.miniMessage(resolve(input), null);
+        }
+        String switched = states.isEmpty() ? input : PlaceholderUtils.resolveInlineSwitches(input, states);
+        return MessageParser.miniMessage(switched, placeholders, true);
+    }
+
+    /**
+     * Checks whether resolving with this instance also runs PlaceholderAPI, whose values are not part of
+     * {@link #contentHash()}.
+     *
+     * @return {@code true} if the target is a player.
+     */
+    public boolean isExternallyResolved() {
+        return target instanceof OfflinePlayer;
+    }
+
+    /**
+     * Computes a hash of the placeholders, states and target of this instance.
+     * <p>
+     * Two instances with the same content have the same hash, so it can be used to tell whether
+     * something rendered with one instance can be reused for another.
+     *
+     * @return The content hash.
+     */
+    public int contentHash() {
+        int placeholderHash = 0;
+        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+            placeholderHash += entry.getKey().hashCode() ^ entry.getValue().hashCode();
+        }
+        int stateHash = 0;
+        for (Map.Entry<String, Boolean> entry : states.entrySet()) {
+            stateHash += entry.getKey().hashCode() ^ entry.getValue().hashCode();
+        }
+        int targetHash = target instanceof OfflinePlayer player
+                ? player.getUniqueId().hashCode()
+                : System.identityHashCode(target);
+        return 31 * (31 * placeholderHash + stateHash) + targetHash;
+    }
+
+    /**
+     * Checks whether the other instance holds the same placeholders, states and target, in the sense of
+     * {@link #contentHash()}.
+     *
+     * @param other The other instance.
+     * @return {@code true} if both have the same content.
+     */
+    public boolean contentEquals(@NonNull Placeholder other) {
+        if (other == this) return true;
+        if (placeholders.size() != other.placeholders.size() || states.size() != other.states.size()) return false;
+        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+            if (!entry.getValue().equals(other.placeholders.get(entry.getKey()))) return false;
+        }
+        for (Map.Entry<String, Boolean> entry : states.entrySet()) {
+            if (!entry.getValue().equals(other.states.get(entry.getKey()))) return false;
+        }
+        if (target instanceof OfflinePlayer player && other.target instanceof OfflinePlayer otherPlayer) {
+            return player.getUniqueId().equals(otherPlayer.getUniqueId());
+        }
+        return target == other.target;
     }
 
     /**
@@ -0,0 +1,207 @@
+package com.georgev22.voidchest.api.utilities.message;
+
+import com.georgev22.voidchest.api.config.OptionsUtil;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMap;
+import com.georgev22.voidchest.api.datastructures.maps.ObjectMaps;
+import org.bukkit.OfflinePlayer;
+import org.jspecify.annotations.NonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A short-lived, per-player cache of PlaceholderAPI bracket placeholder values, e.g. {@code {vault_eco_balance}}.
+ * <p>
+ * Every distinct placeholder is resolved once per player per {@link OptionsUtil#PLACEHOLDERAPI_CACHE_TTL}
+ * milliseconds, and reused for every string rendered in that window. {@link #apply(OfflinePlayer, List)}
+ * collects the placeholders of all given strings first and resolves the missing ones together, so rendering
+ * a menu calls each expansion at most once instead of once per name and lore line.
+ * <p>
+ * A TTL of {@code 0} disables the cache and passes every string to PlaceholderAPI as is.
+ * Callers must handle PlaceholderAPI being absent, as for any direct PlaceholderAPI call.
+ */
+public final class PlaceholderAPICache {
+
+    private static final int MAX_CACHED_PER_PLAYER = 512;
+
+    private static final ObjectMap<UUID, PlayerCache> CACHE = ObjectMaps.newConcurrentHashObjectMap();
+
+    private PlaceholderAPICache() {
+        throw new UnsupportedOperationException("This class cannot be instantiated");
+    }
+
+    /**
+     * Replaces the PlaceholderAPI bracket placeholders in the given string.
+     *
+     * @param player The player the placeholders are resolved for.
+     * @param input  The input string.
+     * @return The string with the placeholders replaced.
+     */
+    public static @NonNull String apply(@NonNull OfflinePlayer player, @NonNull String input) {
+        if (input.indexOf('{') == -1) {
+            return input;
+        }
+        long ttl = ttlNanos();
+        if (ttl <= 0) {
+            return me.clip.placeholderapi.PlaceholderAPI.setBracketPlaceholders(player, input);
+        }
+        PlayerCache cache = cache(player, ttl);
+        resolveMissing(player, cache, tokens(input, new LinkedHashSet<>()));
+        return substitute(player, cache, input);
+    }
+
+    /**
+     * Replaces the PlaceholderAPI bracket placeholders in all given strings, resolving each distinct
+     * placeholder once.
+     *
+     * @param player The player the placeholders are resolved for.
+     * @param inputs The input strings.
+     * @return A new list with the placeholders replaced.
+     */
+    public static @NonNull List<String> apply(@NonNull OfflinePlayer player, @NonNull List<String> inputs) {
+        long ttl = ttlNanos();
+        List<String> result = new ArrayList<>(inputs.size());
+        if (ttl <= 0) {
+            for (String input : inputs) {
+                result.add(input.indexOf('{') == -1
+                        ? input
+                        : me.clip.placeholderapi.PlaceholderAPI.setBracketPlaceholders(player, input));
+            }
+            return result;
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String input : inputs) {
+            tokens(input, tokens);
+        }
+        if (tokens.isEmpty()) {
+            result.addAll(inputs);
+            return result;
+        }
+        PlayerCache cache = cache(player, ttl);
+        resolveMissing(player, cache, tokens);
+        for (String input : inputs) {
+            result.add(substitute(player, cache, input));
+        }
+        return result;
+    }
+
+    /**
+     * Forgets the cached values of the given player, e.g. after an action that changes them.
+     *
+     * @param playerId The player UUID.
+     */
+    public static void invalidate(@NonNull UUID playerId) {
+        CACHE.remove(playerId);
+    }
+
+    /**
+     * Forgets every cached value.
+     */
+    public static void invalidateAll() {
+        CACHE.clear();
+    }
+
+    private static long ttlNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, OptionsUtil.PLACEHOLDERAPI_CACHE_TTL.getIntValue()));
+    }
+
+    /**
+     * Retrieves the cache of the given player, starting a new window if the previous one expired.
+     */
+    private static @NonNull PlayerCache cache(@NonNull OfflinePlayer player, long ttl) {
+        long now = System.nanoTime();
+        PlayerCache cache = CACHE.get(player.getUniqueId());
+        if (cache != null && now - cache.expiresAt < 0) {
+            return cache;
+        }
+        CACHE.values().removeIf(expired -> now - expired.expiresAt >= 0);
+        PlayerCache fresh = new PlayerCache(now + ttl);
+        CACHE.put(player.getUniqueId(), fresh);
+        return fresh;
+    }
+
+    private static void resolveMissing(@NonNull OfflinePlayer player, @NonNull PlayerCache cache, @NonNull Set<String> tokens) {
+        for (String token : tokens) {
+            if (cache.values.containsKey(token)) continue;
+            if (cache.values.size() >= MAX_CACHED_PER_PLAYER) {
+                cache.values.clear();
+            }
+            cache.values.put(token, me.clip.placeholderapi.PlaceholderAPI.setBracketPlaceholders(player, token));
+        }
+    }
+
+    /**
+     * Collects the bracket placeholders of the input, including the brackets, like PlaceholderAPI matches them.
+     */
+    private static @NonNull Set<String> tokens(@NonNull String input, @NonNull Set<String> tokens) {
+        int open = input.indexOf('{');
+        while (open != -1) {
+            int close = closing(input, open);
+            if (close == -1) {
+                open = input.indexOf('{', open + 1);
+                continue;
+            }
+            tokens.add(input.substring(open, close + 1));
+            open = input.indexOf('{', close + 1);
+        }
+        return tokens;
+    }
+
+    private static @NonNull String substitute(@NonNull OfflinePlayer player, @NonNull PlayerCache cache, @NonNull String input) {
+        StringBuilder builder = null;
+        int last = 0;
+        int open = input.indexOf('{');
+        while (open != -1) {
+            int close = closing(input, open);
+            if (close == -1) {
+                open = input.indexOf('{', open + 1);
+                continue;
+            }
+            String token = input.substring(open, close + 1);
+            String value = cache.values.get(token);
+            if (value == null) {
+                // Evicted while the strings were being rendered.
+                value = me.clip.placeholderapi.PlaceholderAPI.setBracketPlaceholders(player, token);
+            }
+            if (builder == null) {
+                builder = new StringBuilder(input.length() + 16);
+            }
+            builder.append(input, last, open).append(value);
+            last = close + 1;
+            open = input.indexOf('{', last);
+        }
+        if (builder == null) {
+            return input;
+        }
+        return builder.append(input, last, input.length()).toString();
+    }
+
+    /**
+     * Finds the closing bracket of a non-empty placeholder starting at {@code open}, or -1 if there is none.
+     */
+    private static int closing(@NonNull String input, int open) {
+        for (int i = open + 1; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '}') return i > open + 1 ? i : -1;
+            if (c == '{') return -1;
+        }
+        return -1;
+    }
+
+    /**
+     * The values resolved for a single player in the current window.
+     */
+    private static final class PlayerCache {
+
+        private final ObjectMap<String, String> values = ObjectMaps.newConcurrentHashObjectMap();
+        private final long expiresAt;
+
+        private PlayerCache(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+}
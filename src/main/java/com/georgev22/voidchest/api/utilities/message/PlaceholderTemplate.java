@@ -0,0 +1,425 @@
+package com.georgev22.voidchest.api.utilities.message;
+
+import com.georgev22.voidchest.api.utilities.Utils;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * A string split once into literal, placeholder and keyed inline switch segments, so it can be rendered
+ * in a single pass instead of one replacement pass per placeholder.
+ * <p>
+ * Recognized segments:
+ * <ul>
+ *     <li>Percent placeholders without whitespace, e.g. {@code %player%}</li>
+ *     <li>Brace placeholders without whitespace, e.g. {@code {player}}</li>
+ *     <li>Keyed inline switches, e.g. {@code {autosell:enabled|disabled}}, whose options may contain percent placeholders</li>
+ * </ul>
+ * Placeholder keys of any other shape cannot be looked up per segment; rendering with such keys falls back to
+ * replacing them one by one, like {@link PlaceholderUtils#replace(org.bukkit.permissions.ServerOperator, String, Map, boolean)} used to.
+ * <p>
+ * Templates are cached by their source string through {@link #compile(String)}; only the most recently used
+ * templates are kept.
+ * <p>
+ * A percent placeholder whose key has no value does not consume its closing {@code %}: rendering scans on from
+ * that character, so in {@code 50%/%max%} the stray {@code %} does not hide {@code %max%}.
+ */
+public final class PlaceholderTemplate {
+
+    private static final int MAX_CACHED = 1024;
+
+    private static final BoundedCache<String, PlaceholderTemplate> CACHE = new BoundedCache<>(MAX_CACHED);
+
+    private final String source;
+    private final Segment[] segments;
+    private final boolean constant;
+
+    private PlaceholderTemplate(@NonNull String source, @NonNull List<Segment> segments) {
+        this.source = source;
+        this.segments = segments.toArray(new Segment[0]);
+        this.constant = segments.stream().allMatch(segment -> segment instanceof Literal);
+    }
+
+    /**
+     * Retrieves the compiled template of the given string, compiling and caching it if needed.
+     *
+     * @param source The template string.
+     * @return The compiled template.
+     */
+    public static @NonNull PlaceholderTemplate compile(@NonNull String source) {
+        PlaceholderTemplate template = CACHE.get(source);
+        if (template != null) {
+            return template;
+        }
+        template = new PlaceholderTemplate(source, parse(source, 0, source.length(), true));
+        CACHE.put(source, template);
+        return template;
+    }
+
+    /**
+     * Removes every cached template.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Retrieves the string this template was compiled from.
+     *
+     * @return The source string.
+     */
+    public @NonNull String getSource() {
+        return source;
+    }
+
+    /**
+     * Checks whether this template contains no placeholder or inline switch segments.
+     *
+     * @return {@code true} if the template is a single literal.
+     */
+    public boolean isConstant() {
+        return constant;
+    }
+
+    /**
+     * Renders this template with the given placeholders. Inline switches are left as they are.
+     *
+     * @param placeholders The placeholder values by key, e.g. {@code %player%}. Can be null.
+     * @param ignoreCase   Whether placeholder keys are matched ignoring case.
+     * @return The rendered string.
+     */
+    public @NonNull String render(@Nullable Map<String, String> placeholders, boolean ignoreCase) {
+        return render(placeholders, null, ignoreCase);
+    }
+
+    /**
+     * Renders this template with the given placeholders and inline switch states.
+     * <p>
+     * Switches whose key has no state select their second option. If no states are given at all,
+     * switches are left as they are, with only the placeholders inside them replaced.
+     *
+     * @param placeholders The placeholder values by key, e.g. {@code %player%}. Can be null.
+     * @param states       The inline switch states by key. Can be null.
+     * @param ignoreCase   Whether placeholder keys are matched ignoring case.
+     * @return The rendered string.
+     */
+    public @NonNull String render(
+            @Nullable Map<String, String> placeholders,
+            @Nullable Map<String, Boolean> states,
+            boolean ignoreCase
+    ) {
+        boolean hasPlaceholders = placeholders != null && !placeholders.isEmpty();
+        boolean hasStates = states != null && !states.isEmpty();
+        if (hasPlaceholders && !allSegmentKeys(placeholders.keySet())) {
+            return renderFallback(placeholders, hasStates ? states : null, ignoreCase);
+        }
+        if (constant || (!hasPlaceholders && !hasStates)) {
+            return source;
+        }
+
+        Lookup lookup = new Lookup(hasPlaceholders ? placeholders : Map.of(), ignoreCase);
+        StringBuilder builder = new StringBuilder(source.length() + 16);
+        append(builder, segments, lookup, hasStates ? states : null);
+        return builder.toString();
+    }
+
+    /**
+     * Checks whether this template contains keyed inline switches.
+     */
+    boolean hasSwitches() {
+        for (Segment segment : segments) {
+            if (segment instanceof Switch) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Joins the top-level segments, writing {@code slot.apply(n)} for the n-th placeholder instead of its value.
+     * Switches are written as they are.
+     */
+    @NonNull String join(@NonNull IntFunction<String> slot) {
+        StringBuilder builder = new StringBuilder(source.length() + 16);
+        int index = 0;
+        for (Segment segment : segments) {
+            if (segment instanceof Token) {
+                builder.append(slot.apply(index++));
+            } else {
+                append(builder, new Segment[]{segment}, new Lookup(Map.of(), false), null);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Looks up the values of the top-level placeholders, in the order {@link #join(IntFunction)} numbers them.
+     * Brace placeholders without a value keep their key.
+     *
+     * @return The values, or {@code null} if a percent placeholder has no value, since rendering then scans on
+     * from its closing {@code %} and the placeholders no longer line up with the slots.
+     */
+    @NonNull String @Nullable [] values(@Nullable Map<String, String> placeholders, boolean ignoreCase) {
+        Lookup lookup = new Lookup(placeholders == null ? Map.of() : placeholders, ignoreCase);
+        List<String> values = new ArrayList<>();
+        for (Segment segment : segments) {
+            if (segment instanceof Token token) {
+                String value = lookup.get(token.key());
+                if (value == null && token.rescans()) return null;
+                values.add(value != null ? value : token.key());
+            }
+        }
+        return values.toArray(new String[0]);
+    }
+
+    private static void append(
+            @NonNull StringBuilder builder,
+            Segment @NonNull [] segments,
+            @NonNull Lookup lookup,
+            @Nullable Map<String, Boolean> states
+    ) {
+        for (Segment segment : segments) {
+            switch (segment) {
+                case Literal literal -> builder.append(literal.text());
+                case Token token -> {
+                    String value = lookup.get(token.key());
+                    if (value != null) {
+                        builder.append(value);
+                    } else if (token.rescans()) {
+                        // The closing % may open the next placeholder, so the rest is scanned again from there.
+                        builder.append(token.key(), 0, token.key().length() - 1);
+                        append(builder, token.rest(), lookup, states);
+                        return;
+                    } else {
+                        builder.append(token.key());
+                    }
+                }
+                case Switch sw -> {
+                    if (states == null) {
+                        builder.append('{').append(sw.key()).append(':');
+                        append(builder, sw.first(), lookup, null);
+                        builder.append('|');
+                        append(builder, sw.second(), lookup, null);
+                        builder.append('}');
+                    } else {
+                        append(builder, states.getOrDefault(sw.key(), false) ? sw.first() : sw.second(), lookup, null);
+                    }
+                }
+            }
+        }
+    }
+
+    private @NonNull String renderFallback(
+            @NonNull Map<String, String> placeholders,
+            @Nullable Map<String, Boolean> states,
+            boolean ignoreCase
+    ) {
+        String result = states == null ? source : render(null, states, ignoreCase);
+        for (Map.Entry<String, String> entry : placeholders.entrySet()) {
+            result = ignoreCase
+                    ? Utils.replaceIgnoreCase(result, entry.getKey(), entry.getValue())
+                    : result.replace(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether every key has the shape of a placeholder segment, so looking up segments finds
+     * exactly what replacing the keys one by one would.
+     */
+    static boolean allSegmentKeys(@NonNull Iterable<String> keys) {
+        for (String key : keys) {
+            if (key == null || !isSegmentKey(key)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isSegmentKey(@NonNull String key) {
+        int length = key.length();
+        if (length < 3) return false;
+        char open = key.charAt(0);
+        char close = key.charAt(length - 1);
+        if (open == '%' && close == '%') {
+            return tokenEnd(key, 0, length, '%') == length - 1;
+        }
+        if (open == '{' && close == '}') {
+            return tokenEnd(key, 0, length, '}') == length - 1;
+        }
+        return false;
+    }
+
+    /**
+     * Splits {@code source[start, end)} into segments. Switches are only recognized at the top level.
+     */
+    private static @NonNull List<Segment> parse(@NonNull String source, int start, int end, boolean switches) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = start;
+        while (i < end) {
+            char c = source.charAt(i);
+            int close = -1;
+            Segment segment = null;
+            if (c == '%') {
+                close = tokenEnd(source, i, end, '%');
+                if (close != -1) segment = new Token(source.substring(i, close + 1), source, close, end, switches);
+            } else if (c == '{') {
+                if (switches) {
+                    close = switchEnd(source, i, end);
+                    if (close != -1) segment = parseSwitch(source, i, close);
+                }
+                if (segment == null) {
+                    close = tokenEnd(source, i, end, '}');
+                    if (close != -1) segment = new Token(source.substring(i, close + 1), null, close, end, false);
+                }
+            }
+            if (segment == null) {
+                literal.append(c);
+                i++;
+                continue;
+            }
+            if (!literal.isEmpty()) {
+                segments.add(new Literal(literal.toString()));
+                literal.setLength(0);
+            }
+            segments.add(segment);
+            i = close + 1;
+        }
+        if (!literal.isEmpty()) {
+            segments.add(new Literal(literal.toString()));
+        }
+        return segments;
+    }
+
+    /**
+     * Finds the closing character of a placeholder starting at {@code open}. The placeholder must not be empty
+     * and must not contain whitespace, braces or {@code |}.
+     *
+     * @return The index of the closing character, or -1 if there is no placeholder at {@code open}.
+     */
+    private static int tokenEnd(@NonNull String source, int open, int end, char closing) {
+        for (int i = open + 1; i < end; i++) {
+            char c = source.charAt(i);
+            if (c == closing) return i > open + 1 ? i : -1;
+            if (Character.isWhitespace(c) || c == '{' || c == '}' || c == '|' || c == '%') return -1;
+        }
+        return -1;
+    }
+
+    /**
+     * Matches {@code \{(\w+):([^{}|]+)\|([^{}|]+)}} at {@code open}, like the keyed switch pattern of {@link PlaceholderUtils}.
+     *
+     * @return The index of the closing brace, or -1 if there is no switch at {@code open}.
+     */
+    private static int switchEnd(@NonNull String source, int open, int end) {
+        int i = open + 1;
+        while (i < end && isWordChar(source.charAt(i))) i++;
+        if (i == open + 1 || i >= end || source.charAt(i) != ':') return -1;
+        int firstStart = ++i;
+        while (i < end && !isSwitchDelimiter(source.charAt(i))) i++;
+        if (i == firstStart || i >= end || source.charAt(i) != '|') return -1;
+        int secondStart = ++i;
+        while (i < end && !isSwitchDelimiter(source.charAt(i))) i++;
+        if (i == secondStart || i >= end || source.charAt(i) != '}') return -1;
+        return i;
+    }
+
+    private static @NonNull Switch parseSwitch(@NonNull String source, int open, int close) {
+        int colon = source.indexOf(':', open);
+        int bar = source.indexOf('|', colon);
+        return new Switch(
+                source.substring(open + 1, colon),
+                parse(source, colon + 1, bar, false).toArray(new Segment[0]),
+                parse(source, bar + 1, close, false).toArray(new Segment[0])
+        );
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static boolean isSwitchDelimiter(char c) {
+        return c == '{' || c == '}' || c == '|';
+    }
+
+    private sealed interface Segment permits Literal, Token, Switch {
+    }
+
+    private record Literal(@NonNull String text) implements Segment {
+    }
+
+    /**
+     * A placeholder. Percent placeholders keep where they were found, so the rest of their range can be
+     * parsed again from the closing {@code %} when the key has no value.
+     */
+    private static final class Token implements Segment {
+
+        private final String key;
+        private final @Nullable String source;
+        private final int close;
+        private final int end;
+        private final boolean switches;
+        private volatile Segment @Nullable [] rest;
+
+        private Token(@NonNull String key, @Nullable String source, int close, int end, boolean switches) {
+            this.key = key;
+            this.source = source;
+            this.close = close;
+            this.end = end;
+            this.switches = switches;
+        }
+
+        private @NonNull String key() {
+            return key;
+        }
+
+        private boolean rescans() {
+            return source != null;
+        }
+
+        /**
+         * Parses the range from the closing {@code %} on, once.
+         */
+        private Segment @NonNull [] rest() {
+            Segment[] rest = this.rest;
+            if (rest == null) {
+                this.rest = rest = parse(Objects.requireNonNull(source), close, end, switches).toArray(new Segment[0]);
+            }
+            return rest;
+        }
+    }
+
+    private record Switch(@NonNull String key, Segment @NonNull [] first, Segment @NonNull [] second) implements Segment {
+    }
+
+    /**
+     * Looks up placeholder values, building a lower-case view of the keys only when a case-insensitive lookup misses.
+     */
+    private static final class Lookup {
+
+        private final Map<String, String> placeholders;
+        private final boolean ignoreCase;
+        private @Nullable Map<String, String> lowerCase;
+
+        private Lookup(@NonNull Map<String, String> placeholders, boolean ignoreCase) {
+            this.placeholders = placeholders;
+            this.ignoreCase = ignoreCase;
+        }
+
+        private @Nullable String get(@NonNull String key) {
+            String value = placeholders.get(key);
+            if (value != null || !ignoreCase || placeholders.isEmpty()) {
+                return value;
+            }
+            if (lowerCase == null) {
+                lowerCase = new HashMap<>(placeholders.size() * 2);
+                placeholders.forEach((k, v) -> lowerCase.putIfAbsent(k.toLowerCase(Locale.ROOT), v));
+            }
+            return lowerCase.get(key.toLowerCase(Locale.ROOT));
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.georgev22.voidchest.api.utilities.message;
 
-import com.georgev22.voidchest.api.utilities.Utils;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.permissions.ServerOperator;
 import org.jetbrains.annotations.NotNull;
@@ -19,7 +18,7 @@ import java.util.stream.Collectors;
  * Supported features:
  * <ul>
  *     <li>Basic placeholder replacement using a Map</li>
- *     <li>PlaceholderAPI support (if installed)</li>
+ *     <li>PlaceholderAPI support (if installed), cached per player by {@link PlaceholderAPICache}</li>
  *     <li>Inline switch syntax: {@code {enabled|disabled}}</li>
  *     <li>Keyed inline switch syntax: {@code {autosell:enabled|disabled}}</li>
  * </ul>
@@ -35,7 +34,8 @@ public final class PlaceholderUtils {
      * <p>
      * Supports:
      * <ul>
-     *     <li>Simple placeholder replacement from the provided map</li>
+     *     <li>Simple placeholder replacement from the provided map, in a single pass over the
+     *     cached {@link PlaceholderTemplate} of the input</li>
      *     <li>Integration with PlaceholderAPI if target is a player</li>
      * </ul>
      *
@@ -54,11 +54,7 @@ public final class PlaceholderUtils {
         String result = input;
 
         if (placeholders != null && !placeholders.isEmpty()) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                result = ignoreCase
-                        ? Utils.replaceIgnoreCase(result, entry.getKey(), entry.getValue())
-                        : result.replace(entry.getKey(), entry.getValue());
-            }
+            result = PlaceholderTemplate.compile(input).render(placeholders, ignoreCase);
         }
 
         result = applyPlaceholderAPI(target, result);
@@ -81,9 +77,11 @@ public final class PlaceholderUtils {
             @Nullable Map<String, String> placeholders,
             boolean ignoreCase
     ) {
-        return input.stream()
-                .map(str -> replace(target, str, placeholders, ignoreCase))
+        List<String> replaced = input.stream()
+                .map(str -> replace(null, str, placeholders, ignoreCase))
                 .collect(Collectors.toList());
+
+        return applyPlaceholderAPI(target, replaced);
     }
 
     /**
@@ -101,21 +99,12 @@ public final class PlaceholderUtils {
             @Nullable Map<String, String> placeholders,
             boolean ignoreCase
     ) {
-        String[] copy = Arrays.copyOf(input, input.length);
-
-        for (int i = 0; i < copy.length; i++) {
-            copy[i] = replace(target, copy[i], placeholders, ignoreCase);
-        }
-
-        return copy;
+        return replace(target, Arrays.asList(input), placeholders, ignoreCase).toArray(new String[0]);
     }
 
     private static final Pattern SIMPLE_SWITCH_PATTERN =
             Pattern.compile("\\{([^:{}|]+)\\|([^{}|]+)}");
 
-    private static final Pattern KEYED_SWITCH_PATTERN =
-            Pattern.compile("\\{(\\w+):([^{}|]+)\\|([^{}|]+)}");
-
     /**
      * Resolves simple inline switches in a string.
      * <p>
@@ -170,22 +159,7 @@ public final class PlaceholderUtils {
             return input;
         }
 
-        Matcher matcher = KEYED_SWITCH_PATTERN.matcher(input);
-        StringBuilder builder = new StringBuilder();
-
-        while (matcher.find()) {
-            String key = matcher.group(1);
-            String first = matcher.group(2);
-            String second = matcher.group(3);
-
-            boolean state = states.getOrDefault(key, false);
-            String replacement = state ? first : second;
-
-            matcher.appendReplacement(builder, Matcher.quoteReplacement(replacement));
-        }
-
-        matcher.appendTail(builder);
-        return builder.toString();
+        return PlaceholderTemplate.compile(input).render(null, states, false);
     }
 
     /**
@@ -204,8 +178,30 @@ public final class PlaceholderUtils {
         }
 
         try {
-            return me.clip.placeholderapi.PlaceholderAPI
-                    .setBracketPlaceholders(offlinePlayer, input);
+            return PlaceholderAPICache.apply(offlinePlayer, input);
+        } catch (Throwable ignored) {
+            return input;
+        }
+    }
+
+    /**
+     * Applies PlaceholderAPI replacements to several strings at once if the target is an {@link OfflinePlayer},
+     * resolving each distinct placeholder once.
+     *
+     * @param target Target player/operator for PlaceholderAPI, can be null
+     * @param input  Input strings to apply PlaceholderAPI placeholders to
+     * @return Strings with PlaceholderAPI placeholders applied, or the original strings if unavailable
+     */
+    private static List<String> applyPlaceholderAPI(
+            @Nullable ServerOperator target,
+            @NotNull List<String> input
+    ) {
+        if (!(target instanceof OfflinePlayer offlinePlayer)) {
+            return input;
+        }
+
+        try {
+            return PlaceholderAPICache.apply(offlinePlayer, input);
         } catch (Throwable ignored) {
             return input;
         }
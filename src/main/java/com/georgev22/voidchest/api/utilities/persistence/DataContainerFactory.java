@@ -44,6 +44,14 @@ public class DataContainerFactory {
         return new ModernDataContainerWrapper(container);
     }
 
+    /**
+     * Wraps an {@link ItemStack} via its read-only PersistentDataContainer view, without copying its ItemMeta.
+     */
+    @Contract("_ -> new")
+    public static @NonNull DataContainerWrapper wrapView(@NonNull ItemStack itemStack) {
+        return new ViewDataContainerWrapper(itemStack.getPersistentDataContainer());
+    }
+
     /**
      * Wraps a {@link BlockState} via its PersistentDataContainer.
      */
@@ -39,7 +39,7 @@ public class ModernDataContainerWrapper implements DataContainerWrapper {
     }
 
     @SuppressWarnings("unchecked")
-    private static <T, Z> PersistentDataType<T, Z> toBukkitType(@NonNull DataType type) {
+    static <T, Z> PersistentDataType<T, Z> toBukkitType(@NonNull DataType type) {
         return switch (type) {
             case BYTE -> (PersistentDataType<T, Z>) PersistentDataType.BYTE;
             case SHORT -> (PersistentDataType<T, Z>) PersistentDataType.SHORT;
@@ -0,0 +1,44 @@
+package com.georgev22.voidchest.api.utilities.persistence;
+
+import io.papermc.paper.persistence.PersistentDataContainerView;
+import org.bukkit.NamespacedKey;
+
+/**
+ * A read-only {@link DataContainerWrapper} over a {@link PersistentDataContainerView}.
+ * <p>
+ * Reading an item through its view does not copy the item meta, which makes this wrapper
+ * suitable for hot paths that only need to check a marker.
+ */
+public class ViewDataContainerWrapper implements DataContainerWrapper {
+
+    private final PersistentDataContainerView container;
+
+    public ViewDataContainerWrapper(PersistentDataContainerView container) {
+        this.container = container;
+    }
+
+    @Override
+    public boolean has(NamespacedKey key, DataType type) {
+        return container.has(key, ModernDataContainerWrapper.toBukkitType(type));
+    }
+
+    @Override
+    public void set(NamespacedKey key, DataType type, Object value) {
+        throw new UnsupportedOperationException("This data container is read-only");
+    }
+
+    @Override
+    public <T> T get(NamespacedKey key, DataType type) {
+        return container.get(key, ModernDataContainerWrapper.toBukkitType(type));
+    }
+
+    @Override
+    public void remove(NamespacedKey key) {
+        throw new UnsupportedOperationException("This data container is read-only");
+    }
+
+    @Override
+    public <T> T apply(T object) {
+        return object;
+    }
+}